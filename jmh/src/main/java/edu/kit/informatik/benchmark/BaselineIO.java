@@ -0,0 +1,85 @@
+package edu.kit.informatik.benchmark;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+import edu.kit.informatik.core.Errors;
+import edu.kit.informatik.core.Input;
+import edu.kit.informatik.core.Output;
+import edu.kit.informatik.model.Game;
+import edu.kit.informatik.presenter.BuyFireEngine;
+import edu.kit.informatik.presenter.Command;
+import edu.kit.informatik.presenter.Extinguish;
+import edu.kit.informatik.presenter.FireToRoll;
+import edu.kit.informatik.presenter.Move;
+import edu.kit.informatik.presenter.Quit;
+import edu.kit.informatik.presenter.Refill;
+import edu.kit.informatik.presenter.Reset;
+import edu.kit.informatik.presenter.ShowBoard;
+import edu.kit.informatik.presenter.ShowField;
+import edu.kit.informatik.presenter.ShowPlayer;
+import edu.kit.informatik.presenter.Turn;
+import edu.kit.informatik.presenter.output.ErrorMessages;
+import edu.kit.informatik.presenter.output.Result;
+import edu.kit.informatik.presenter.output.Result.Type;
+
+/**
+ * IO.next() as it was before the commands were found by their name, to compare the IO with: the commands are
+ * searched for in a list and wrapped in an Optional, the line is split with a regular expression and the output is
+ * always printed as a String. The commands themselves are the current ones, so only the dispatch differs.
+ * <br><br>
+ * Commands that would reset the game or exit the program do nothing, the benchmarks do not run them.
+ * 
+ * @author Julian Dieskau
+ * @version 1.0
+ */
+final class BaselineIO {
+    /** All registered commands in the order they are searched */
+    private final List<Command> commands;
+    
+    /**
+     * Constructor that registers the commands of the original IO.
+     */
+    BaselineIO() {
+        this.commands = new ArrayList<>();
+        this.commands.addAll(List.of(new Quit(), new Reset(), new Turn(), new BuyFireEngine(), new Extinguish(),
+                new ShowBoard(), new ShowField(), new ShowPlayer(), new Move(), new Refill(), new FireToRoll()));
+    }
+    
+    /**
+     * Searches through the registered commands for one with the given name.
+     * 
+     * @param name of the command to search for
+     * @return Optional of the command, empty if no command was found
+     */
+    private Optional<Command> getCommand(String name) {
+        for (Command c : this.commands) {
+            if (name.equals(c.getName())) {
+                return Optional.of(c);
+            }
+        }
+        return Optional.empty();
+    }
+    
+    /**
+     * Reads a line, runs its command on the game and prints the result like the original IO.next().
+     * 
+     * @param in    Input   to read the line from
+     * @param out   Output  for the result of the command
+     * @param err   Errors  for the error message of the command
+     * @param g     Game    to run the command on
+     */
+    void next(Input in, Output out, Errors err, Game g) {
+        String read = in.read();
+        String[] input = read.split(" ", -1);
+        Result r = this.getCommand(input[0])
+                .map(cmd -> cmd.execute(g, input))
+                .orElse(new Result(ErrorMessages.COMMAND_NOT_FOUND, Type.FAILURE));
+        if (r.getType() == Type.SUCCESS) {
+            out.print(r.getMessage());
+        } else if (r.getType() == Type.FAILURE) {
+            err.print(r.getMessage());
+        }
+    }
+}
@@ -0,0 +1,216 @@
+package edu.kit.informatik.benchmark;
+
+import edu.kit.informatik.model.Board;
+import edu.kit.informatik.model.Square.State;
+import edu.kit.informatik.model.objects.BoardObject;
+import edu.kit.informatik.model.objects.FireEngine;
+import edu.kit.informatik.model.objects.FireStation;
+import edu.kit.informatik.model.objects.Lake;
+import edu.kit.informatik.presenter.input.ArgumentMessages;
+import edu.kit.informatik.presenter.input.Arguments;
+import edu.kit.informatik.presenter.input.Arguments.ArgumentType;
+import edu.kit.informatik.presenter.input.Patterns;
+
+/**
+ * Parser.parseArgs() as it was before the board argument was scanned in place, to compare the Parser with: the
+ * argument is split into a String for every value, every value is tested with String.matches() against the
+ * pattern of its square and every test returns a new Arguments.
+ * <br><br>
+ * The original parser created a list of squares, which do not exist as objects anymore. This one puts the parsed
+ * values on a Board with initSquare() instead, like the Parser does, so only the parsing itself differs. The
+ * squares of the fire stations and first fire engines are not tested again as forest squares, which the original
+ * parser did by mistake.
+ * 
+ * @author Julian Dieskau
+ * @version 1.0
+ */
+final class BaselineParser {
+    
+    /**
+     * Utility class, therefore not wanted.
+     */
+    private BaselineParser() {
+        throw new IllegalAccessError("Do not try to instantiate this class!");
+    }
+    
+    /**
+     * Tests the amount of command line arguments, splits the argument and tests the size of the board.
+     * 
+     * @param args  String[]    command line arguments (should be one, with commas separated)
+     * @return      Arguments   with ArgumentType INCORRECT and the error message or CORRECT if the tests passed
+     */
+    private static Arguments testArgs(String[] args) {
+        if (args == null || args.length == 0) {
+            return new Arguments(null, ArgumentMessages.NO_ARGUMENTS_GIVEN, ArgumentType.INCORRECT);
+        } else if (args.length > 1) {
+            return new Arguments(null, String.format(ArgumentMessages.TO_MANY_ARGUMENTS, args.length),
+                    ArgumentType.INCORRECT);
+        }
+        String[] split = args[0].split(",", -1);
+        if (split.length < 2) {
+            return new Arguments(null, String.format(ArgumentMessages.WRONG_ARG_AMOUNT, "at least 2", split.length),
+                    ArgumentType.INCORRECT);
+        }
+        int m;
+        int n;
+        try {
+            m = Integer.parseInt(split[0]);
+            n = Integer.parseInt(split[1]);
+        } catch (NumberFormatException e) {
+            return new Arguments(null, ArgumentMessages.WRONG_FIRST_TWO_ARGS, ArgumentType.INCORRECT);
+        }
+        if (m < 5) {
+            return new Arguments(null, String.format(ArgumentMessages.ROWS_SMALLER_FIVE, m), ArgumentType.INCORRECT);
+        } else if (n < 5) {
+            return new Arguments(null, String.format(ArgumentMessages.COLUMNS_SMALLER_FIVE, m),
+                    ArgumentType.INCORRECT);
+        }
+        if (m % 2 != 1) {
+            return new Arguments(null, String.format(ArgumentMessages.EVEN_ROWS_AMOUNT, m), ArgumentType.INCORRECT);
+        } else if (n % 2 != 1) {
+            return new Arguments(null, String.format(ArgumentMessages.EVEN_COLUMNS_AMOUNT, n), ArgumentType.INCORRECT);
+        }
+        if (split.length != m * n + 2) {
+            return new Arguments(null, String.format(ArgumentMessages.WRONG_ARG_AMOUNT, m * n + 2, split.length),
+                    ArgumentType.INCORRECT);
+        }
+        return new Arguments(null, "was", ArgumentType.CORRECT);
+    }
+    
+    /**
+     * Tests a value that is not a fire station or first fire engine: the lakes in the middle of the edges and the
+     * forest squares, and puts it on the board.
+     * 
+     * @param next      String  value to test
+     * @param i         int     position of the value in the split argument
+     * @param board     Board   to put the square on
+     * @param fire      int[]   counts of the lightly and heavily burning squares
+     * @return Arguments with ArgumentType INCORRECT and the error message or CORRECT
+     */
+    private static Arguments testRest(String next, int i, Board board, int[] fire) {
+        int m = board.getRows();
+        int n = board.getColumns();
+        int row = (i - 2) / n;
+        int column = (i - 2) % n;
+        if (i == 2 + ((n + 1) / 2) - 1 || i == 2 + m * n - ((n + 1) / 2) || i == 2 + ((m - 1) / 2) * n
+                || i == 2 + ((m + 1) / 2) * n - 1) {
+            if (next.matches(Patterns.IS_LAKE)) {
+                board.initSquare(row, column, State.DRY, false, new Lake());
+            } else {
+                return new Arguments(null, String.format(ArgumentMessages.ARGUMENT_WRONG, next, Patterns.IS_LAKE),
+                        ArgumentType.INCORRECT);
+            }
+        } else if (next.matches(Patterns.IS_FOREST)) {
+            switch (next) {
+                case "d":
+                    board.initSquare(row, column, State.DRY, true, null);
+                    break;
+                case "w":
+                    board.initSquare(row, column, State.WET, true, null);
+                    break;
+                case "+":
+                    board.initSquare(row, column, State.SPARKING, true, null);
+                    fire[0]++;
+                    break;
+                case "*":
+                    board.initSquare(row, column, State.BURNING, true, null);
+                    fire[1]++;
+                    break;
+                default:
+                    return new Arguments(null, String.format(ArgumentMessages.ARGUMENT_WRONG, next,
+                            Patterns.IS_FOREST), ArgumentType.INCORRECT);
+            }
+        } else {
+            return new Arguments(null, String.format(ArgumentMessages.ARGUMENT_WRONG, next, Patterns.IS_FOREST),
+                    ArgumentType.INCORRECT);
+        }
+        return new Arguments(null, String.valueOf(fire[0] + fire[1]), ArgumentType.CORRECT);
+    }
+    
+    /**
+     * Tests a value on the square of a fire station or a first fire engine and puts it on the board.
+     * 
+     * @param next      String  value to test
+     * @param i         int     position of the value in the split argument
+     * @param board     Board   to put the square on
+     * @return Arguments with ArgumentType INCORRECT and the error message, CORRECT with the message "correct" if
+     *          the square has neither or CORRECT if it has been put on the board
+     */
+    private static Arguments firstTest(String next, int i, Board board) {
+        int m = board.getRows();
+        int n = board.getColumns();
+        int row = (i - 2) / n;
+        int column = (i - 2) % n;
+        String expected;
+        BoardObject object;
+        if (i == 2) {
+            expected = Patterns.IS_PLAYER_A;
+            object = new FireStation(expected);
+        } else if (i == 2 + n - 1) {
+            expected = Patterns.IS_PLAYER_D;
+            object = new FireStation(expected);
+        } else if (i == 2 + m * n - 1) {
+            expected = Patterns.IS_PLAYER_B;
+            object = new FireStation(expected);
+        } else if (i == 2 + (m - 1) * n) {
+            expected = Patterns.IS_PLAYER_C;
+            object = new FireStation(expected);
+        } else if (i == 2 + n + 1) {
+            expected = Patterns.IS_PLAYER_A + "0";
+            object = new FireEngine(expected);
+        } else if (i == 2 + n + (n - 2)) {
+            expected = Patterns.IS_PLAYER_D + "0";
+            object = new FireEngine(expected);
+        } else if (i == 2 + n * (m - 2) + 1) {
+            expected = Patterns.IS_PLAYER_C + "0";
+            object = new FireEngine(expected);
+        } else if (i == 2 + n * (m - 1) - 2) {
+            expected = Patterns.IS_PLAYER_B + "0";
+            object = new FireEngine(expected);
+        } else {
+            return new Arguments(null, "correct", ArgumentType.CORRECT);
+        }
+        if (!next.matches(expected)) {
+            return new Arguments(null, String.format(ArgumentMessages.ARGUMENT_WRONG, next, expected),
+                    ArgumentType.INCORRECT);
+        }
+        board.initSquare(row, column, State.DRY, object instanceof FireEngine, object);
+        return new Arguments(null, "lol", ArgumentType.CORRECT);
+    }
+    
+    /**
+     * Parses the command line arguments like the original Parser.parseArgs().
+     * 
+     * @param args  String[]    command line arguments (should be one, with commas separated)
+     * @return      Arguments   with the snapshot of the board as well as the ArgumentType
+     */
+    static Arguments parseArgs(String[] args) {
+        Arguments a = testArgs(args);
+        if (a.getType() == ArgumentType.INCORRECT) {
+            return a;
+        }
+        String[] split = args[0].split(",", -1);
+        int m = Integer.parseInt(split[0]);
+        int n = Integer.parseInt(split[1]);
+        Board board = new Board(m, n);
+        int[] fire = new int[2];
+        for (int i = 2; i < split.length; i++) {
+            String next = split[i];
+            Arguments first = firstTest(next, i, board);
+            if (first.getType() == ArgumentType.INCORRECT) {
+                return first;
+            } else if (first.getMessage().equals("correct")) {
+                Arguments rest = testRest(next, i, board, fire);
+                if (rest.getType() == ArgumentType.INCORRECT) {
+                    return rest;
+                }
+            }
+        }
+        if (fire[0] == 0) {
+            return new Arguments(null, ArgumentMessages.NO_SPARKING_SQUARE, ArgumentType.INCORRECT);
+        } else if (fire[1] == 0) {
+            return new Arguments(null, ArgumentMessages.NO_BURNING_SQUARE, ArgumentType.INCORRECT);
+        }
+        return new Arguments(board.snapshot(), "", ArgumentType.CORRECT);
+    }
+}
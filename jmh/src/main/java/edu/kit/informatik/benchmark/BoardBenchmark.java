@@ -0,0 +1,73 @@
+package edu.kit.informatik.benchmark;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import edu.kit.informatik.model.objects.BoardObject;
+import edu.kit.informatik.presenter.ShowBoard;
+import edu.kit.informatik.presenter.output.Result;
+
+/**
+ * Reading the board: finding a board object by its name and creating the output of show-board.
+ * 
+ * @author Julian Dieskau
+ * @version 1.0
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class BoardBenchmark {
+    /** Command that prints the board */
+    private final ShowBoard showBoard = new ShowBoard();
+    /** Input of show-board */
+    private final String[] input = {this.showBoard.getName()};
+    
+    /**
+     * Finds the board object with the name.
+     * 
+     * @param state GameState   with the game
+     * @param name  Name        of the board object
+     * @return the BoardObject
+     */
+    @Benchmark
+    public BoardObject getBoardObject(GameState state, Name name) {
+        return state.ready.getBoard().getBoardObject(name.name);
+    }
+    
+    /**
+     * Creates the output of the board.
+     * 
+     * @param state GameState   with the game
+     * @return the Result with the board
+     */
+    @Benchmark
+    public Result showBoard(GameState state) {
+        return this.showBoard.execute(state.ready, this.input);
+    }
+    
+    /**
+     * Name of the fire engine or other board object that is searched.
+     * 
+     * @author Julian Dieskau
+     * @version 1.0
+     */
+    @State(Scope.Thread)
+    public static class Name {
+        /** Name of the board object */
+        @Param({"A0", "A"})
+        public String name;
+    }
+}
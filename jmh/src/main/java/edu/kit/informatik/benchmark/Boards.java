@@ -0,0 +1,64 @@
+package edu.kit.informatik.benchmark;
+
+import java.util.Random;
+
+import edu.kit.informatik.presenter.input.Patterns;
+
+/**
+ * Random boards for the benchmarks, always the same ones for the same size and share of the fire.
+ * 
+ * @author Julian Dieskau
+ * @version 1.0
+ */
+final class Boards {
+    /** Seed of the random boards */
+    private static final long SEED = 42;
+    
+    /**
+     * Utility class, therefore not wanted.
+     */
+    private Boards() {
+        throw new IllegalAccessError("Do not try to instantiate this class!");
+    }
+    
+    /**
+     * Creates the command line argument of a random board with size x size squares. Fire stations, the first fire
+     * engines and lakes are where the Parser expects them, the given share of the forest squares is lightly or
+     * heavily burning, the others are wet or dry. Two squares in the middle row are always lightly and heavily
+     * burning, so every board is accepted.
+     * 
+     * @param size  int     number of rows and columns, odd and at least 5
+     * @param fire  double  share of the burning squares
+     * @return the comma-separated board argument
+     */
+    static String argument(int size, double fire) {
+        Random random = new Random(SEED);
+        int last = size - 1;
+        int middle = last / 2;
+        StringBuilder arg = new StringBuilder(size * size * 2 + 16).append(size).append(',').append(size);
+        for (int i = 0; i < size; i++) {
+            for (int j = 0; j < size; j++) {
+                arg.append(',');
+                if ((i == 0 || i == last) && (j == 0 || j == last)) {
+                    String station = i == 0 ? (j == 0 ? Patterns.IS_PLAYER_A : Patterns.IS_PLAYER_D)
+                            : (j == 0 ? Patterns.IS_PLAYER_C : Patterns.IS_PLAYER_B);
+                    arg.append(station);
+                } else if ((i == 1 || i == last - 1) && (j == 1 || j == last - 1)) {
+                    String station = i == 1 ? (j == 1 ? Patterns.IS_PLAYER_A : Patterns.IS_PLAYER_D)
+                            : (j == 1 ? Patterns.IS_PLAYER_C : Patterns.IS_PLAYER_B);
+                    arg.append(station).append('0');
+                } else if ((i == 0 || i == last) && j == middle || (j == 0 || j == last) && i == middle) {
+                    arg.append(Patterns.IS_LAKE);
+                } else if (i == middle && j == middle - 1) {
+                    arg.append('+');
+                } else if (i == middle && j == middle + 1) {
+                    arg.append('*');
+                } else {
+                    double x = random.nextDouble();
+                    arg.append(x < fire / 2 ? '*' : x < fire ? '+' : random.nextBoolean() ? 'd' : 'w');
+                }
+            }
+        }
+        return arg.toString();
+    }
+}
@@ -0,0 +1,56 @@
+package edu.kit.informatik.benchmark;
+
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import edu.kit.informatik.model.Board;
+import edu.kit.informatik.model.BoardSnapshot;
+import edu.kit.informatik.model.Game;
+import edu.kit.informatik.presenter.input.Arguments;
+import edu.kit.informatik.presenter.input.Arguments.ArgumentType;
+import edu.kit.informatik.presenter.input.Parser;
+
+/**
+ * Board and game that the benchmarks run on, one for every size of the board and share of the burning squares.
+ * The game has played the turns of the first round and waits for the dice, benchmarks that change it need to
+ * work on a copy.
+ * 
+ * @author Julian Dieskau
+ * @version 1.0
+ */
+@State(Scope.Benchmark)
+public class GameState {
+    /** Number of rows and columns of the board */
+    @Param({"5", "101", "1001", "4001"})
+    public int size;
+    /** Share of the burning squares */
+    @Param({"0.01", "0.1", "0.5"})
+    public double fire;
+    
+    /** Command line arguments with the board */
+    String[] args;
+    /** Board the games start with */
+    BoardSnapshot snapshot;
+    /** Game at the end of the first round, the players have had their turns and it waits for the dice */
+    Game ready;
+    
+    /**
+     * Creates the board argument, parses it and plays the turns of the first round.
+     */
+    @Setup
+    public void setUp() {
+        this.args = new String[] {Boards.argument(this.size, this.fire)};
+        Arguments parsed = Parser.parseArgs(this.args);
+        if (parsed.getType() != ArgumentType.CORRECT) {
+            throw new IllegalArgumentException(parsed.getMessage());
+        }
+        this.snapshot = parsed.getSnapshot();
+        this.ready = new Game();
+        this.ready.init(new Board(this.snapshot));
+        while (!this.ready.getPlayerController().waitForDice()) {
+            this.ready.next();
+        }
+    }
+}
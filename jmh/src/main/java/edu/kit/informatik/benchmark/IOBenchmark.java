@@ -0,0 +1,168 @@
+package edu.kit.informatik.benchmark;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import edu.kit.informatik.Session;
+import edu.kit.informatik.core.Errors;
+import edu.kit.informatik.core.Input;
+import edu.kit.informatik.core.Output;
+import edu.kit.informatik.model.Game;
+import edu.kit.informatik.view.IO;
+
+/**
+ * Whole commands through IO.next(): reading the line, finding and running the command and printing its output,
+ * for every type of command and compared with the BaselineIO that searches the commands in a list and splits the
+ * line with a regular expression. Commands that do not change the game run on the game of the GameState, which
+ * waits for the dice, so turn fails like a command with wrong arguments and foo is no command at all. Fire-to-roll
+ * runs on a new copy of the game for every call.
+ * 
+ * @author Julian Dieskau
+ * @version 1.0
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class IOBenchmark {
+    
+    /**
+     * Reads, runs and prints a command that does not change the game.
+     * 
+     * @param commands  Commands    with the command and the IO
+     * @param state     GameState   with the game
+     */
+    @Benchmark
+    public void read(ReadCommands commands, GameState state) {
+        commands.next(state.ready);
+    }
+    
+    /**
+     * Reads, runs and prints a fire-to-roll on a new copy of the game.
+     * 
+     * @param commands  Commands    with the command, the IO and the copy
+     */
+    @Benchmark
+    public void roll(RollCommands commands) {
+        commands.next(commands.game);
+    }
+    
+    /**
+     * IO that gives the same command every time it reads a line and hands the output to the Blackhole.
+     * 
+     * @author Julian Dieskau
+     * @version 1.0
+     */
+    @State(Scope.Thread)
+    public abstract static class Commands implements Input {
+        /** IO for the IO of the game, BASELINE for the BaselineIO */
+        @Param({"IO", "BASELINE"})
+        public String dispatch;
+        
+        /** Runs the commands */
+        private IO io;
+        /** Runs the commands like the original IO, <i>null</i> if the IO of the game runs them */
+        private BaselineIO baseline;
+        /** Takes the output of the commands */
+        private Output out;
+        /** Takes the errors of the commands */
+        private Errors err;
+        
+        /**
+         * Creates the IO for the game of the state.
+         * 
+         * @param state GameState   with the board and game
+         * @param hole  Blackhole   that takes the output
+         */
+        @Setup
+        public void setUp(GameState state, Blackhole hole) {
+            this.out = new Output() {
+                @Override
+                public void print(String s) {
+                    hole.consume(s);
+                }
+                
+                @Override
+                public void print(char[] s) {
+                    hole.consume(s);
+                }
+            };
+            this.err = hole::consume;
+            this.io = new IO(state.ready, new Session(state.snapshot, this, this.out, this.err));
+            this.baseline = this.dispatch.equals("BASELINE") ? new BaselineIO() : null;
+        }
+        
+        /**
+         * Reads, runs and prints the command on the game.
+         * 
+         * @param game  Game    to run the command on
+         */
+        void next(Game game) {
+            if (this.baseline != null) {
+                this.baseline.next(this, this.out, this.err, game);
+            } else {
+                this.io.next(this, this.out, this.err, game);
+            }
+        }
+    }
+    
+    /**
+     * Commands that do not change the game.
+     * 
+     * @author Julian Dieskau
+     * @version 1.0
+     */
+    public static class ReadCommands extends Commands {
+        /** Command that is read */
+        @Param({"show-board", "show-field 2,2", "show-player", "turn", "foo"})
+        public String command;
+        
+        @Override
+        public String read() {
+            return this.command;
+        }
+    }
+    
+    /**
+     * Fire-to-roll with a new copy of the game for every call.
+     * 
+     * @author Julian Dieskau
+     * @version 1.0
+     */
+    public static class RollCommands extends Commands {
+        /** Command that is read */
+        @Param({"fire-to-roll 1", "fire-to-roll 2"})
+        public String roll;
+        /** Copy of the game for the next call */
+        Game game;
+        
+        /**
+         * Copies the game that waits for the dice.
+         * 
+         * @param state GameState   with the game
+         */
+        @Setup(Level.Invocation)
+        public void copy(GameState state) {
+            this.game = new Game(state.ready);
+        }
+        
+        @Override
+        public String read() {
+            return this.roll;
+        }
+    }
+}
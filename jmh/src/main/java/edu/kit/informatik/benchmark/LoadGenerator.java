@@ -0,0 +1,115 @@
+package edu.kit.informatik.benchmark;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.net.InetAddress;
+import java.net.Socket;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.concurrent.CountDownLatch;
+
+/**
+ * Load for the Server: many clients connect at once and send commands one after another, every client waits for the
+ * answer of its command before it sends the next one. Prints the commands per second of all clients and the median
+ * and 99th percentile of the round trip of a command. The commands need a board with a fire station in the top
+ * left corner, like the ones of Boards, and answer with exactly one line each.
+ * <br><br>
+ * Usage: <blockquote><pre>
+ * java -cp benchmarks.jar edu.kit.informatik.benchmark.LoadGenerator
+ *         &lt;port&gt; &lt;clients&gt; &lt;commands-per-client&gt;</pre>
+ * </blockquote>
+ * 
+ * @author Julian Dieskau
+ * @version 1.0
+ */
+public final class LoadGenerator {
+    /** Commands that every client sends in turn, each of them answers with one line */
+    private static final String[] COMMANDS = {"show-field 1,1", "move A0,1,2", "show-field 9,9", "move A0,1,1", "turn"};
+    /** Message if the program is not called with the port, the number of clients and commands per client */
+    private static final String USAGE = "usage: LoadGenerator <port> <clients> <commands-per-client>";
+    
+    /**
+     * Utility class, therefore not wanted.
+     */
+    private LoadGenerator() {
+        throw new IllegalAccessError("Do not try to instantiate this class!");
+    }
+    
+    /**
+     * Connects the clients to the local port, lets all of them send their commands at the same time and prints the
+     * result when the last one is done.
+     * 
+     * @param args command line arguments: the port, the number of clients and of commands per client
+     * @throws InterruptedException if the waiting for the clients is interrupted
+     */
+    public static void main(String[] args) throws InterruptedException {
+        if (args.length != 3) {
+            System.err.println(USAGE);
+            return;
+        }
+        int port = Integer.parseInt(args[0]);
+        int clients = Integer.parseInt(args[1]);
+        int commands = Integer.parseInt(args[2]);
+        long[][] latencies = new long[clients][commands];
+        CountDownLatch connected = new CountDownLatch(clients);
+        CountDownLatch start = new CountDownLatch(1);
+        Thread[] threads = new Thread[clients];
+        for (int i = 0; i < clients; i++) {
+            long[] latency = latencies[i];
+            threads[i] = new Thread(() -> run(port, latency, connected, start));
+            threads[i].start();
+        }
+        connected.await();
+        long begin = System.nanoTime();
+        start.countDown();
+        for (Thread thread : threads) {
+            thread.join();
+        }
+        long elapsed = System.nanoTime() - begin;
+        long[] all = Arrays.stream(latencies).flatMapToLong(Arrays::stream).sorted().toArray();
+        System.out.printf("%4d sessions: %7.0f commands/s, p50 %6.1f us, p99 %7.1f us%n", clients,
+                all.length / (elapsed / 1e9), all[all.length / 2] / 1e3, all[(int) (all.length * 0.99)] / 1e3);
+    }
+    
+    /**
+     * Runs one client: connects, waits for the start and sends as many commands as it has latencies to measure,
+     * then quits.
+     * 
+     * @param port      int             of the Server
+     * @param latency   long[]          for the round trip of every command in nanoseconds
+     * @param connected CountDownLatch  that is counted down when the client is connected
+     * @param start     CountDownLatch  that all clients wait for before they send their commands
+     */
+    private static void run(int port, long[] latency, CountDownLatch connected, CountDownLatch start) {
+        try (Socket socket = new Socket(InetAddress.getLoopbackAddress(), port)) {
+            socket.setTcpNoDelay(true);
+            BufferedReader reader = new BufferedReader(
+                    new InputStreamReader(socket.getInputStream(), StandardCharsets.UTF_8));
+            Writer writer = new BufferedWriter(
+                    new OutputStreamWriter(socket.getOutputStream(), StandardCharsets.UTF_8));
+            connected.countDown();
+            start.await();
+            for (int i = 0; i < latency.length; i++) {
+                long begin = System.nanoTime();
+                writer.write(COMMANDS[i % COMMANDS.length]);
+                writer.write('\n');
+                writer.flush();
+                if (reader.readLine() == null) {
+                    throw new IOException("the server has closed the connection");
+                }
+                latency[i] = System.nanoTime() - begin;
+            }
+            writer.write("quit\n");
+            writer.flush();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,53 @@
+package edu.kit.informatik.benchmark;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Warmup;
+
+import edu.kit.informatik.presenter.input.Arguments;
+import edu.kit.informatik.presenter.input.Parser;
+
+/**
+ * Parsing the board argument from the command line, with the Parser and with the BaselineParser that splits the
+ * argument and tests every value with a regular expression. The 4001 x 4001 board of the GameState is the case
+ * the Parser was rewritten for. The BaselineParser holds a String for every one of its 16 million values, so the
+ * benchmark runs with a larger heap than the default.
+ * 
+ * @author Julian Dieskau
+ * @version 1.0
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = "-Xmx4g")
+public class ParseBenchmark {
+    
+    /**
+     * Parses the board argument.
+     * 
+     * @param state GameState   with the argument
+     * @return the parsed Arguments
+     */
+    @Benchmark
+    public Arguments parseArgs(GameState state) {
+        return Parser.parseArgs(state.args);
+    }
+    
+    /**
+     * Parses the board argument with the BaselineParser.
+     * 
+     * @param state GameState   with the argument
+     * @return the parsed Arguments
+     */
+    @Benchmark
+    public Arguments baseline(GameState state) {
+        return BaselineParser.parseArgs(state.args);
+    }
+}
@@ -0,0 +1,168 @@
+package edu.kit.informatik.benchmark;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import edu.kit.informatik.model.Board;
+import edu.kit.informatik.model.BoardSnapshot;
+import edu.kit.informatik.model.Game;
+import edu.kit.informatik.model.GameLog;
+import edu.kit.informatik.model.GameLog.Replay;
+import edu.kit.informatik.model.objects.FireEngine;
+import edu.kit.informatik.presenter.BuyFireEngine;
+import edu.kit.informatik.presenter.Command;
+import edu.kit.informatik.presenter.Extinguish;
+import edu.kit.informatik.presenter.FireToRoll;
+import edu.kit.informatik.presenter.Move;
+import edu.kit.informatik.presenter.Refill;
+import edu.kit.informatik.presenter.Turn;
+import edu.kit.informatik.presenter.input.Parser;
+
+/**
+ * Replaying a GameLog of random games, the time is given per record. The log is written once per board by random
+ * commands of the presenter, most of them close to the fire engines of the current player so they are often
+ * accepted, and a game that is over is reset.
+ * 
+ * @author Julian Dieskau
+ * @version 1.0
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ReplayBenchmark {
+    /** Number of records of the log, the last command may append one more */
+    private static final int RECORDS = 200000;
+    /** Seed of the random commands */
+    private static final long SEED = 42;
+    
+    /** Number of rows and columns of the board */
+    @Param({"11", "101"})
+    public int size;
+    
+    /** File of the log */
+    private Path path;
+    
+    /**
+     * Plays random commands on games of the board and logs them until the log has enough records.
+     * 
+     * @throws IOException if the log cannot be written
+     */
+    @Setup
+    public void setUp() throws IOException {
+        BoardSnapshot board = Parser.parseArgs(new String[] {Boards.argument(this.size, 0.1)}).getSnapshot();
+        this.path = Files.createTempFile("replay", ".log");
+        Random random = new Random(SEED);
+        Command[] commands = {new BuyFireEngine(), new Extinguish(), new Move(), new Refill()};
+        Command turn = new Turn();
+        Command roll = new FireToRoll();
+        try (GameLog log = GameLog.create(this.path, board)) {
+            Game game = start(board, log);
+            while (log.getRecords() < RECORDS) {
+                if (game.isOver()) {
+                    log.reset();
+                    game = start(board, log);
+                } else if (game.getPlayerController().waitForDice()) {
+                    roll.execute(game, new String[] {roll.getName(), String.valueOf(1 + random.nextInt(6))});
+                } else if (random.nextInt(5) == 0) {
+                    turn.execute(game, new String[] {turn.getName()});
+                } else {
+                    Command command = commands[random.nextInt(commands.length)];
+                    command.execute(game, new String[] {command.getName(), argument(command, game, random)});
+                }
+            }
+        }
+    }
+    
+    /**
+     * Deletes the log.
+     * 
+     * @throws IOException if the log cannot be deleted
+     */
+    @TearDown
+    public void tearDown() throws IOException {
+        Files.delete(this.path);
+    }
+    
+    /**
+     * Replays the whole log.
+     * 
+     * @return the Replay with the last game
+     * @throws IOException if the log cannot be read
+     */
+    @Benchmark
+    @OperationsPerInvocation(RECORDS)
+    public Replay replay() throws IOException {
+        return GameLog.replay(this.path);
+    }
+    
+    /**
+     * Creates a new logged game that starts with the board.
+     * 
+     * @param board BoardSnapshot   to start with
+     * @param log   GameLog         to append to
+     * @return the new Game
+     */
+    private static Game start(BoardSnapshot board, GameLog log) {
+        Game game = new Game();
+        game.init(new Board(board));
+        game.setLog(log);
+        return game;
+    }
+    
+    /**
+     * Chooses the argument of the command: a fire engine of the current player and a position close to it, or a
+     * position close to a fire station to buy a fire engine.
+     * 
+     * @param command   Command to choose the argument for
+     * @param game      Game    the command is run on
+     * @param random    Random  to choose the argument with
+     * @return the argument
+     */
+    private static String argument(Command command, Game game, Random random) {
+        Board board = game.getBoard();
+        if (command instanceof BuyFireEngine) {
+            int row = random.nextBoolean() ? 1 : board.getRows() - 2;
+            int column = random.nextBoolean() ? 1 : board.getColumns() - 2;
+            return (row + random.nextInt(3) - 1) + "," + (column + random.nextInt(3) - 1);
+        }
+        char player = game.currentPlayer().getID().toChar();
+        List<FireEngine> mine = new ArrayList<>();
+        for (FireEngine e : board.getFireEngines()) {
+            if (e.getName().charAt(0) == player) {
+                mine.add(e);
+            }
+        }
+        if (mine.isEmpty()) {
+            return player + "0";
+        }
+        FireEngine engine = mine.get(random.nextInt(mine.size()));
+        int row = Math.max(0, Math.min(board.getRows() - 1, engine.getRowPosition() + random.nextInt(3) - 1));
+        int column = Math.max(0, Math.min(board.getColumns() - 1, engine.getColumnPosition() + random.nextInt(3) - 1));
+        if (command instanceof Refill) {
+            return engine.getName();
+        }
+        return engine.getName() + "," + row + "," + column;
+    }
+}
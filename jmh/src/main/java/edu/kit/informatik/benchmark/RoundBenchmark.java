@@ -0,0 +1,142 @@
+package edu.kit.informatik.benchmark;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.Warmup;
+
+import edu.kit.informatik.model.Board;
+import edu.kit.informatik.model.Direction;
+import edu.kit.informatik.model.GameLogic;
+import edu.kit.informatik.model.Square.State;
+import edu.kit.informatik.presenter.output.EliminationType;
+
+/**
+ * The phases of fire-to-roll in GameLogic: spreading the fire for every value of the dice, eliminating the players
+ * and resetting the round. Benchmarks that change the board run on a new copy of it for every call, the copy is
+ * made in the setup and not measured.
+ * 
+ * @author Julian Dieskau
+ * @version 1.0
+ */
+@org.openjdk.jmh.annotations.State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class RoundBenchmark {
+    /** Spreads the fire with the squares, as the game does by default */
+    private final GameLogic logic = new GameLogic();
+    
+    /**
+     * Spreads the fire like Game.rollFire() does for the value of the dice, without eliminating the players.
+     * 
+     * @param logic GameLogic   to spread the fire with
+     * @param board Board       to spread the fire on
+     * @param dice  int         value of the dice
+     */
+    static void burn(GameLogic logic, Board board, int dice) {
+        if (dice == 1) {
+            for (int f = 2; f <= 5; f++) {
+                logic.burnToDirection(Direction.ofDice(f), board);
+            }
+        } else if (dice != 6) {
+            logic.burnToDirection(Direction.ofDice(dice), board);
+        }
+    }
+    
+    /**
+     * Spreads the fire on a new copy of the board for the value of the dice.
+     * 
+     * @param copy  Copy    of the board for this call
+     * @return burning squares after the spread
+     */
+    @Benchmark
+    public int burnToDirection(Copy copy) {
+        burn(this.logic, copy.board, copy.dice);
+        return copy.board.countForestSquares(State.BURNING);
+    }
+    
+    /**
+     * Tests the players of the game, who all still have their fire engines.
+     * 
+     * @param state GameState   with the game
+     * @return EliminationType of the test
+     */
+    @Benchmark
+    public EliminationType eliminatePlayers(GameState state) {
+        return this.logic.eliminatePlayers(state.ready.getBoard(), state.ready.getPlayerController());
+    }
+    
+    /**
+     * Resets a new copy of the board after the fire has spread into all directions.
+     * 
+     * @param burned    Burned  copy of the board for this call
+     * @return burning squares after the reset
+     */
+    @Benchmark
+    public int roundReset(Burned burned) {
+        this.logic.roundReset(burned.board);
+        return burned.board.countForestSquares(State.BURNING);
+    }
+    
+    /**
+     * New copy of the board of the game for every call, with the value of the dice to spread the fire with.
+     * 
+     * @author Julian Dieskau
+     * @version 1.0
+     */
+    @org.openjdk.jmh.annotations.State(Scope.Thread)
+    public static class Copy {
+        /** Value of the dice */
+        @Param({"1", "2", "3", "4", "5", "6"})
+        public int dice;
+        /** Copy of the board for the next call */
+        Board board;
+        
+        /**
+         * Copies the board and resets its round like the last turn of the round does.
+         * 
+         * @param state GameState   with the game
+         */
+        @Setup(Level.Invocation)
+        public void copy(GameState state) {
+            this.board = new Board(state.ready.getBoard());
+            this.board.roundReset();
+        }
+    }
+    
+    /**
+     * New copy of the board of the game for every call, after the fire has spread into all directions.
+     * 
+     * @author Julian Dieskau
+     * @version 1.0
+     */
+    @org.openjdk.jmh.annotations.State(Scope.Thread)
+    public static class Burned {
+        /** Copy of the board for the next call */
+        Board board;
+        
+        /**
+         * Copies the board and spreads the fire into all directions.
+         * 
+         * @param state GameState   with the game
+         */
+        @Setup(Level.Invocation)
+        public void copy(GameState state) {
+            this.board = new Board(state.ready.getBoard());
+            this.board.roundReset();
+            burn(new GameLogic(), this.board, 1);
+        }
+    }
+}
@@ -0,0 +1,194 @@
+package edu.kit.informatik.benchmark;
+
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import edu.kit.informatik.model.Board;
+import edu.kit.informatik.model.Direction;
+import edu.kit.informatik.model.GameLogic;
+import edu.kit.informatik.model.GameLogic.Spread;
+import edu.kit.informatik.model.Square.State;
+
+/**
+ * Spreading the fire on a large random board with every Spread of the GameLogic, the parallel one with pools of
+ * several sizes. Every call plays the round of a value of the dice on a new copy of a board that has already
+ * spread the fire once, so its bit masks exist, and has been reset for the next round.
+ * 
+ * @author Julian Dieskau
+ * @version 1.0
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class SpreadBenchmark {
+    /** Seed of the board */
+    private static final long SEED = 42;
+    
+    /**
+     * Plays the round with the squares or the bit masks, one row after the other.
+     * 
+     * @param round Sequential  with the copy of the board
+     * @return the copy after the round
+     */
+    @Benchmark
+    public Board sequential(Sequential round) {
+        return round.play();
+    }
+    
+    /**
+     * Plays the round with the bit masks in bands of rows in parallel.
+     * 
+     * @param round Parallel    with the copy of the board
+     * @return the copy after the round
+     */
+    @Benchmark
+    public Board parallel(Parallel round) {
+        return round.play();
+    }
+    
+    /**
+     * Board, GameLogic and value of the dice of a round, with a new copy of the board for every call.
+     * 
+     * @author Julian Dieskau
+     * @version 1.0
+     */
+    @org.openjdk.jmh.annotations.State(Scope.Thread)
+    public abstract static class Round {
+        /** Number of rows and columns of the board */
+        @Param({"1001", "4001"})
+        public int size;
+        /** Share of the burning squares */
+        @Param({"0.01", "0.5"})
+        public double fire;
+        /** Value of the dice */
+        @Param({"1", "2"})
+        public int dice;
+        
+        /** Board every call starts with */
+        private Board start;
+        /** Spreads the fire */
+        private GameLogic logic;
+        /** Copy of the board for the next call */
+        private Board board;
+        
+        /**
+         * Creates the GameLogic of the round.
+         * 
+         * @return the GameLogic
+         */
+        abstract GameLogic createLogic();
+        
+        /**
+         * Creates the board and spreads the fire on it once to create its bit masks.
+         */
+        @Setup
+        public void setUp() {
+            this.logic = this.createLogic();
+            this.start = randomBoard(this.size, this.fire);
+            this.logic.burnToDirection(Direction.N, this.start);
+            this.start.roundReset();
+        }
+        
+        /**
+         * Copies the board for the next call.
+         */
+        @Setup(Level.Invocation)
+        public void copy() {
+            this.board = new Board(this.start);
+        }
+        
+        /**
+         * Plays the round of the value of the dice on the copy.
+         * 
+         * @return the copy after the round
+         */
+        Board play() {
+            RoundBenchmark.burn(this.logic, this.board, this.dice);
+            return this.board;
+        }
+    }
+    
+    /**
+     * Round with the squares or the bit masks, one row after the other.
+     * 
+     * @author Julian Dieskau
+     * @version 1.0
+     */
+    public static class Sequential extends Round {
+        /** Spread of the GameLogic */
+        @Param({"SQUARES", "BITBOARD"})
+        public Spread spread;
+        
+        @Override
+        GameLogic createLogic() {
+            return new GameLogic(this.spread);
+        }
+    }
+    
+    /**
+     * Round with the bit masks in bands of rows in parallel.
+     * 
+     * @author Julian Dieskau
+     * @version 1.0
+     */
+    public static class Parallel extends Round {
+        /** Threads of the pool */
+        @Param({"1", "2", "4", "8"})
+        public int threads;
+        
+        /** Pool the bands are spread in */
+        private ForkJoinPool pool;
+        
+        @Override
+        GameLogic createLogic() {
+            this.pool = new ForkJoinPool(this.threads);
+            return new GameLogic(Spread.PARALLEL, this.pool);
+        }
+        
+        /**
+         * Shuts the pool down.
+         */
+        @TearDown
+        public void tearDown() {
+            this.pool.shutdown();
+        }
+    }
+    
+    /**
+     * Creates a board with only forest squares, the given share of them is lightly or heavily burning, the others
+     * are wet or dry.
+     * 
+     * @param size  int     number of rows and columns
+     * @param fire  double  share of the burning squares
+     * @return the new Board
+     */
+    private static Board randomBoard(int size, double fire) {
+        Random random = new Random(SEED);
+        Board board = new Board(size, size);
+        for (int i = 0; i < size; i++) {
+            for (int j = 0; j < size; j++) {
+                double x = random.nextDouble();
+                State s = x < fire / 2 ? State.BURNING : x < fire ? State.SPARKING
+                        : random.nextBoolean() ? State.DRY : State.WET;
+                board.initSquare(i, j, s, true, null);
+            }
+        }
+        return board;
+    }
+}
@@ -0,0 +1,54 @@
+package edu.kit.informatik.benchmark;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import edu.kit.informatik.presenter.CommandStats;
+import edu.kit.informatik.presenter.CommandStats.Recorder;
+import edu.kit.informatik.presenter.output.Result.Type;
+
+/**
+ * Recording calls of the same command from several threads at once, like the sessions of the server do. Every
+ * thread records the same time, so all of them hit the same bucket of the histogram.
+ * 
+ * @author Julian Dieskau
+ * @version 1.0
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class StatsBenchmark {
+    /** Recorder that all threads record into */
+    private final Recorder recorder = new CommandStats().recorder("turn");
+    
+    /**
+     * Records a call from one thread.
+     */
+    @Benchmark
+    @Threads(1)
+    public void record1() {
+        this.recorder.record(Type.SUCCESS, 1000);
+    }
+    
+    /**
+     * Records a call from each of 4 threads at once.
+     */
+    @Benchmark
+    @Threads(4)
+    public void record4() {
+        this.recorder.record(Type.SUCCESS, 1000);
+    }
+}
@@ -1,39 +1,47 @@
 package edu.kit.informatik;
 
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Paths;
+
 import edu.kit.informatik.core.Errors;
 import edu.kit.informatik.core.Input;
 import edu.kit.informatik.core.Output;
-import edu.kit.informatik.model.Game;
+import edu.kit.informatik.model.GameLog;
+import edu.kit.informatik.presenter.CommandStats;
 import edu.kit.informatik.presenter.input.Arguments;
 import edu.kit.informatik.presenter.input.Arguments.ArgumentType;
 import edu.kit.informatik.presenter.input.Parser;
-import edu.kit.informatik.view.IO;
 
 /**
  * Main Class that deals as a link to all sub-classes.
- * Initiates Game- and IO-objects which control how the application behaves.
- * Also implements an exit() method that brings the whole program to stop (if other classes aren't stuck in a loop).
+ * Parses the command line arguments and runs a Session on the console, which holds the Game- and IO-objects that
+ * control how the application behaves.
  * 
  * @author Julian Dieskau
  * @version 1.0
  */
 public final class Application {
-    /** {@value true} if exit() is called, controlls the main loop of the program. */
-    private static boolean applicationShouldClose = false;
-    /** Current Game-object */
-    private static Game game;
-    /** Handles all commands */
-    private static IO io;
-    /** What was parsed from the command line */
-    private static String[] arguments;
-    /** Number of rows of the Board of the game */
-    private static int m;
-    /** Number of columns of the Board of the game */
-    private static int n;
+    /** 
+     * {@value true} if the program does not run in an interactive console or runs a script, then all output is
+     * buffered by the BufferedTerminal instead of printing every line on its own.
+     */
+    private static boolean batched = System.console() == null;
+    /** 
+     * {@value true} if the statistics of the commands are printed to the standard error stream when the program
+     * exits, set by the system property edu.kit.informatik.stats. Off by default, as all output of the program is
+     * given by the task.
+     */
+    private static final boolean DUMP_STATS = Boolean.getBoolean("edu.kit.informatik.stats");
+    /** File that the games are logged to, set by the system property edu.kit.informatik.log, or <i>null</i> */
+    private static final String LOG_FILE = System.getProperty("edu.kit.informatik.log");
     
     private static final Input IN = new Input() {
         @Override
         public String read() {
+            if (batched) {
+                return BufferedTerminal.readLine();
+            }
             return Terminal.readLine();
         }
     };
@@ -41,14 +49,31 @@ public final class Application {
     private static final Output OUT = new Output() {
         @Override
         public void print(String out) {
-            Terminal.printLine(out);
+            if (batched) {
+                BufferedTerminal.printLine(out);
+            } else {
+                Terminal.printLine(out);
+            }
+        }
+        
+        @Override
+        public void print(char[] out) {
+            if (batched) {
+                BufferedTerminal.printLine(out);
+            } else {
+                Terminal.printLine(out);
+            }
         }
     };
     
     private static final Errors ERR = new Errors() {
         @Override
         public void print(String err) {
-            Terminal.printError(err);
+            if (batched) {
+                BufferedTerminal.printError(err);
+            } else {
+                Terminal.printError(err);
+            }
         }
     };
     
@@ -62,84 +87,62 @@ public final class Application {
     /**
      * Main-method that is automatically called each time the application is started, calls
      * the init() method, which initiates everything, the program needs.
+     * Flushes the buffered output when the program ends, even if it ends with an exception.
+     * Prints the statistics of the commands at the exit if they are asked for.
      * 
      * @param args command line arguments in form of a String-Array
      */
     public static void main(String[] args) {
-        init(args);
-    }
-    
-    /**
-     * initiates the application, instantiates a Game-object and an IO-object with the Game-object.
-     * Also calls the Parser to parse the command line arguments to a usable format or stops the application
-     * if the arguments are incorrectly entered.
-     * 
-     * @param args String[] command line arguments
-     */
-    private static void init(String[] args) {
-        game = new Game();
-        io = new IO(game);
-        
-        // Parse the command line arguments and exit if incorrect
-        arguments = args;
-        Arguments arg = Parser.parseArgs(args);
-        if (arg.getType() == ArgumentType.CORRECT) {
-            game.init(m, n, arg.getList());
-            run();
-        } else {
-            ERR.print(arg.getMessage());
-            exit();
+        if (DUMP_STATS) {
+            CommandStats.process().dumpOnExit(System.err);
         }
-    }
-    
-    /**
-     * Main-loop that calls the Input-Output-System to process the next input and print the output to the console.
-     * Runs as long as applicationShouldClose is false.
-     * 
-     * Calls the initiated io-object and the command in that for the next IN value
-     */
-    private static void run() {
-        while (!applicationShouldClose) {
-            io.next(IN, OUT, ERR, game);
+        try {
+            init(args, IN);
+        } finally {
+            if (batched) {
+                BufferedTerminal.flush();
+            }
         }
     }
     
     /**
-     * Is to be called to set the amount of rows and columns the board has for all games that happen in that run of the
-     * program and should only be called once at the start of the program by parsing command line arguments.
+     * Runs the commands that are read from the given Input instead of the console until the input ends or the game
+     * is quit. All output is buffered and flushed at the end. Called by the ScriptRunner.
      * 
-     * @param rows      Number of rows of the board
-     * @param columns   Number of columns of the board
+     * @param args  String[]    command line arguments with the board
+     * @param in    Input       that reads the commands of the script
      */
-    public static void setBoardConstants(int rows, int columns) {
-        m = rows;
-        n = columns;
+    static void runScript(String[] args, Input in) {
+        batched = true;
+        try {
+            init(args, in);
+        } finally {
+            BufferedTerminal.flush();
+        }
     }
     
-    
     /**
-     * Sets the game and io-attributes to new Game and IO objects and initiates the game-object
-     * with the values that were parsed in init() at the start of the program.
+     * initiates the application, calls the Parser to parse the command line arguments to a usable format and starts
+     * a Session with the parsed board that reads from the given Input and prints to the console, or stops the
+     * application if the arguments are incorrectly entered. The games of the session are appended to a GameLog if
+     * a file for it is given.
      * 
-     * The run() method then has different static parameters to call for the next command and the garbage collector 
-     * removes the now not anymore used Game and IO objects.
+     * @param args  String[]    command line arguments
+     * @param in    Input       that reads the commands
      */
-    public static void reset() {
-        game = new Game();
-        
+    private static void init(String[] args, Input in) {
         // Parse the command line arguments and exit if incorrect
-        Arguments arg = Parser.parseArgs(arguments);
-        if (arg.getType() == ArgumentType.CORRECT) {
-            game.init(m, n, arg.getList());
+        Arguments arg = Parser.parseArgs(args);
+        if (arg.getType() == ArgumentType.CORRECT && LOG_FILE == null) {
+            new Session(arg.getSnapshot(), in, OUT, ERR).run();
+        } else if (arg.getType() == ArgumentType.CORRECT) {
+            try (GameLog log = GameLog.create(Paths.get(LOG_FILE), arg.getSnapshot())) {
+                new Session(arg.getSnapshot(), in, OUT, ERR, log).run();
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        } else {
+            ERR.print(arg.getMessage());
         }
     }
-    
-    /**
-     * Forces the program to stop by stopping the main-loop of the program.
-     * Everything that is still called by the current iteration will still finish but no new
-     * iteration will be executed.
-     */
-    public static void exit() {
-        applicationShouldClose = true;
-    }
 }
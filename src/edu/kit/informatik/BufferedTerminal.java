@@ -0,0 +1,114 @@
+package edu.kit.informatik;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.FileDescriptor;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.Charset;
+
+/**
+ * Batched replacement for the Terminal, used when the program does not run in an interactive console, for example
+ * when a script of commands is piped into it.
+ * <br><br>
+ * All lines are written into one large buffer through a single encoder and only written to the standard output
+ * when reading the next line of input would block, when the buffer is full or when flush() is called at exit.
+ * The output is the same as the one of the Terminal, only fewer writes are needed for it.
+ * 
+ * @author Julian Dieskau
+ * @version 1.0
+ */
+public final class BufferedTerminal {
+    /** Size of the input and output buffers in characters */
+    private static final int BUFFER_SIZE = 1 << 16;
+    /** Line separator that System.out.println() would use */
+    private static final String LINE_SEPARATOR = System.lineSeparator();
+    /** Reads the lines of the standard input */
+    private static final BufferedReader IN = new BufferedReader(new InputStreamReader(System.in), BUFFER_SIZE);
+    /** Collects the lines for the standard output and encodes them in the same charset System.out uses */
+    private static final Writer OUT = new BufferedWriter(
+            new OutputStreamWriter(new FileOutputStream(FileDescriptor.out), Charset.defaultCharset()), BUFFER_SIZE);
+    
+    /**
+     * Utility class, therefore not wanted.
+     */
+    private BufferedTerminal() {
+        throw new IllegalAccessError("Do not try to instantiate this class!");
+    }
+    
+    /**
+     * Writes the given error-message with the prefix "Error, " into the buffer and terminates the line.
+     * 
+     * @param message the error message to be printed
+     */
+    public static void printError(String message) {
+        try {
+            OUT.write("Error, ");
+            OUT.write(message);
+            OUT.write(LINE_SEPARATOR);
+        } catch (IOException e) {
+            throw new RuntimeException(e);
+        }
+    }
+    
+    /**
+     * Writes the given String into the buffer and terminates the line.
+     * 
+     * @param line  String to be printed
+     */
+    public static void printLine(String line) {
+        try {
+            OUT.write(line);
+            OUT.write(LINE_SEPARATOR);
+        } catch (IOException e) {
+            throw new RuntimeException(e);
+        }
+    }
+    
+    /**
+     * Writes the given characters into the buffer and terminates the line.
+     * 
+     * @param charArray characters to be printed
+     */
+    public static void printLine(char[] charArray) {
+        try {
+            OUT.write(charArray);
+            OUT.write(LINE_SEPARATOR);
+        } catch (IOException e) {
+            throw new RuntimeException(e);
+        }
+    }
+    
+    /**
+     * Reads the next line of the standard input. If no line is available without waiting for it, all output
+     * is flushed first, so everything that was answered so far is shown before waiting for the next input.
+     * 
+     * @return the content of the line without the line-termination characters or <i>null</i> if the end of the
+     *          stream has been reached
+     */
+    public static String readLine() {
+        try {
+            if (!IN.ready()) {
+                OUT.flush();
+            }
+            return IN.readLine();
+        } catch (IOException e) {
+            throw new RuntimeException(e);
+        }
+    }
+    
+    /**
+     * Writes everything that is still in the buffer to the standard output, needs to be called before the program
+     * exits.
+     */
+    public static void flush() {
+        try {
+            OUT.flush();
+        } catch (IOException e) {
+            throw new RuntimeException(e);
+        }
+    }
+}
@@ -0,0 +1,58 @@
+package edu.kit.informatik;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Paths;
+
+import edu.kit.informatik.model.GameLog;
+import edu.kit.informatik.model.GameLog.Replay;
+import edu.kit.informatik.presenter.ShowBoard;
+
+/**
+ * Replays a GameLog without a console and prints the board of the last game of the log, as show-board would print
+ * it at the end of the logged session.
+ * <br><br>
+ * Usage: <blockquote><pre>
+ * java edu.kit.informatik.LogReplay &lt;log-file&gt;</pre>
+ * </blockquote>
+ * After the log has been replayed, the number of records and the records per second are reported on the standard
+ * error stream, so they do not mix with the board.
+ * 
+ * @author Julian Dieskau
+ * @version 1.0
+ */
+public final class LogReplay {
+    /** Format of the report after the log has been replayed */
+    private static final String REPORT = "%d records in %d ms (%.0f records per second)%n";
+    /** Message if the program is not called with the log file */
+    private static final String USAGE = "usage: LogReplay <log-file>";
+    
+    /**
+     * Utility class, therefore not wanted.
+     */
+    private LogReplay() {
+        throw new IllegalAccessError("Do not try to instantiate this class!");
+    }
+    
+    /**
+     * Replays the log file that is given as the first argument and prints the board of its last game.
+     * 
+     * @param args command line arguments: the path of the log file
+     */
+    public static void main(String[] args) {
+        if (args.length != 1) {
+            System.err.println(USAGE);
+            return;
+        }
+        long start = System.nanoTime();
+        Replay replay;
+        try {
+            replay = GameLog.replay(Paths.get(args[0]));
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        long millis = (System.nanoTime() - start) / 1000000;
+        System.out.println(new ShowBoard().execute(replay.getGame(), new String[] {"show-board"}).getMessage());
+        System.err.printf(REPORT, replay.getRecords(), millis, replay.getRecords() * 1000.0 / Math.max(millis, 1));
+    }
+}
@@ -0,0 +1,111 @@
+package edu.kit.informatik;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.nio.charset.Charset;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+
+import edu.kit.informatik.core.Input;
+import edu.kit.informatik.presenter.CommandStats;
+
+/**
+ * Runs a file of commands without a console, one command per line, as if they were typed in one after the other.
+ * The commands are executed by the same Command classes as in the interactive program and the output is the same,
+ * but the file is read as a stream and all output is buffered.
+ * <br><br>
+ * Usage: <blockquote><pre>
+ * java edu.kit.informatik.ScriptRunner &lt;script-file&gt; &lt;board-argument&gt;</pre>
+ * </blockquote>
+ * After the script has ended, the number of commands and the commands per second are reported on the standard error
+ * stream, so they do not mix with the output of the game, followed by the statistics of the commands.
+ * 
+ * @author Julian Dieskau
+ * @version 1.0
+ */
+public final class ScriptRunner {
+    /** Size of the buffer to read the script with in characters */
+    private static final int BUFFER_SIZE = 1 << 16;
+    /** Format of the report after the script has ended */
+    private static final String REPORT = "%d commands in %d ms (%.0f commands per second)%n";
+    /** Message if the program is not called with the script file and the board */
+    private static final String USAGE = "usage: ScriptRunner <script-file> <board-argument>";
+    
+    /**
+     * Utility class, therefore not wanted.
+     */
+    private ScriptRunner() {
+        throw new IllegalAccessError("Do not try to instantiate this class!");
+    }
+    
+    /**
+     * Reads the script file that is given as the first argument and runs its commands on the board that is given
+     * as the second argument.
+     * 
+     * @param args command line arguments: the path of the script file and the board
+     */
+    public static void main(String[] args) {
+        if (args.length != 2) {
+            System.err.println(USAGE);
+            return;
+        }
+        CommandStats.process().dumpOnExit(System.err);
+        long start = System.nanoTime();
+        long commands;
+        try (BufferedReader script = new BufferedReader(new InputStreamReader(
+                Files.newInputStream(Paths.get(args[0])), Charset.defaultCharset()), BUFFER_SIZE)) {
+            ScriptInput in = new ScriptInput(script);
+            Application.runScript(new String[] {args[1]}, in);
+            commands = in.getCommands();
+        } catch (IOException e) {
+            throw new RuntimeException(e);
+        }
+        long millis = (System.nanoTime() - start) / 1000000;
+        System.err.printf(REPORT, commands, millis, commands * 1000.0 / Math.max(millis, 1));
+    }
+    
+    /**
+     * Input that reads the lines of the script and counts them.
+     * 
+     * @author Julian Dieskau
+     * @version 1.0
+     */
+    private static final class ScriptInput implements Input {
+        /** Reader of the script file */
+        private final BufferedReader script;
+        /** Number of commands that have been read */
+        private long commands;
+        
+        /**
+         * Constructor for the Input of the given script.
+         * 
+         * @param script BufferedReader of the script file
+         */
+        ScriptInput(BufferedReader script) {
+            this.script = script;
+        }
+        
+        @Override
+        public String read() {
+            try {
+                String line = this.script.readLine();
+                if (line != null) {
+                    this.commands++;
+                }
+                return line;
+            } catch (IOException e) {
+                throw new RuntimeException(e);
+            }
+        }
+        
+        /**
+         * Getter for the number of commands that have been read.
+         * 
+         * @return number of commands
+         */
+        long getCommands() {
+            return this.commands;
+        }
+    }
+}
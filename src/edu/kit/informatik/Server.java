@@ -0,0 +1,284 @@
+package edu.kit.informatik;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.lang.reflect.InvocationTargetException;
+import java.net.InetAddress;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicLong;
+
+import edu.kit.informatik.core.Input;
+import edu.kit.informatik.core.Output;
+import edu.kit.informatik.model.BoardSnapshot;
+import edu.kit.informatik.model.GameLog;
+import edu.kit.informatik.presenter.CommandStats;
+import edu.kit.informatik.presenter.input.Arguments;
+import edu.kit.informatik.presenter.input.Arguments.ArgumentType;
+import edu.kit.informatik.presenter.input.Parser;
+
+/**
+ * Hosts many matches in one program: every connection to the local socket gets its own Session with its own Game
+ * and runs on its own thread, all of them start with the same board that is parsed only once.
+ * A connection is used like the console, one command per line, and ends with quit or when the client closes it.
+ * The statistics of the commands of all connections are printed to the standard error stream when the server stops.
+ * If the system property edu.kit.informatik.log names a directory, the games of every connection are logged to
+ * their own GameLog in it, session-1.log for the first connection and so on. A log that cannot be written ends its
+ * session and is reported to the standard error stream.
+ * <br><br>
+ * The sessions run on a cached pool of platform threads. If the system property edu.kit.informatik.threads is
+ * virtual and the Java runtime has virtual threads, every session runs on its own virtual thread instead.
+ * <br><br>
+ * Usage: <blockquote><pre>
+ * java edu.kit.informatik.Server &lt;port&gt; &lt;board-argument&gt;</pre>
+ * </blockquote>
+ * 
+ * @author Julian Dieskau
+ * @version 1.0
+ */
+public final class Server {
+    /** Size of the buffers of a connection in characters */
+    private static final int BUFFER_SIZE = 1 << 13;
+    /** Message if the program is not called with the port and the board */
+    private static final String USAGE = "usage: Server <port> <board-argument>";
+    /** Directory that the games are logged to or <i>null</i> if they are not logged */
+    private static final String LOG_DIRECTORY = System.getProperty("edu.kit.informatik.log");
+    /** Number of the last connection, to name its log */
+    private static final AtomicLong CONNECTIONS = new AtomicLong();
+    /** Kind of threads the sessions run on, virtual or the default platform threads */
+    private static final String THREADS = System.getProperty("edu.kit.informatik.threads", "platform");
+    /** Value of THREADS for virtual threads */
+    private static final String VIRTUAL = "virtual";
+    
+    /**
+     * Utility class, therefore not wanted.
+     */
+    private Server() {
+        throw new IllegalAccessError("Do not try to instantiate this class!");
+    }
+    
+    /**
+     * Parses the board that is given as the second argument and accepts connections on the local port that is
+     * given as the first argument until the program is stopped.
+     * 
+     * @param args command line arguments: the port and the board
+     */
+    public static void main(String[] args) {
+        if (args.length != 2) {
+            System.err.println(USAGE);
+            return;
+        }
+        Arguments arg = Parser.parseArgs(new String[] {args[1]});
+        if (arg.getType() == ArgumentType.INCORRECT) {
+            System.err.println("Error, " + arg.getMessage());
+            return;
+        }
+        BoardSnapshot board = arg.getSnapshot();
+        CommandStats.process().dumpOnExit(System.err);
+        ExecutorService sessions = createExecutor();
+        try (ServerSocket server = new ServerSocket(Integer.parseInt(args[0]), 0, InetAddress.getLoopbackAddress())) {
+            while (true) {
+                Socket socket = server.accept();
+                sessions.execute(() -> serve(socket, board));
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        } finally {
+            sessions.shutdown();
+        }
+    }
+    
+    /**
+     * Creates the executor the sessions run on: one virtual thread per session if they are asked for by the system
+     * property edu.kit.informatik.threads and the Java runtime has them, otherwise a cached pool of platform
+     * threads. Virtual threads are created by reflection, so the program still runs on Java 11.
+     * 
+     * @return the ExecutorService for the sessions
+     */
+    private static ExecutorService createExecutor() {
+        if (VIRTUAL.equals(THREADS)) {
+            try {
+                return (ExecutorService) Executors.class.getMethod("newVirtualThreadPerTaskExecutor").invoke(null);
+            } catch (NoSuchMethodException | IllegalAccessException | InvocationTargetException e) {
+                System.err.println("Error, virtual threads are not available, using platform threads");
+            }
+        }
+        return Executors.newCachedThreadPool();
+    }
+    
+    /**
+     * Runs a Session on the connection until it is quit or closed, then closes the connection. A closed connection
+     * ends the session without any message, a log that cannot be created or written is reported to the standard
+     * error stream.
+     * 
+     * @param socket    Socket of the connection
+     * @param board     BoardSnapshot that every game of the session starts with
+     */
+    private static void serve(Socket socket, BoardSnapshot board) {
+        long number = CONNECTIONS.incrementAndGet();
+        try (Connection connection = new Connection(socket); GameLog log = createLog(board, number)) {
+            new Session(board, connection, connection, connection::printError, log).run();
+        } catch (ClosedConnection e) {
+            // the client has closed the connection, nothing left to answer, but the log may have failed as well
+            for (Throwable suppressed : e.getSuppressed()) {
+                reportLog(number, suppressed);
+            }
+        } catch (IOException | UncheckedIOException e) {
+            reportLog(number, e);
+        }
+    }
+    
+    /**
+     * Reports an error of the log of a session to the standard error stream.
+     * 
+     * @param number    long        of the connection
+     * @param error     Throwable   of the log
+     */
+    private static void reportLog(long number, Throwable error) {
+        System.err.println("Error, session " + number + " cannot write its log: " + error.getMessage());
+    }
+    
+    /**
+     * Creates the log of the connection in the directory of the logs.
+     * 
+     * @param board     BoardSnapshot   that every game of the session starts with
+     * @param number    long            of the connection
+     * @return the new GameLog or <i>null</i> if the games are not logged
+     * @throws IOException if the log cannot be created
+     */
+    private static GameLog createLog(BoardSnapshot board, long number) throws IOException {
+        if (LOG_DIRECTORY == null) {
+            return null;
+        }
+        Path path = Paths.get(LOG_DIRECTORY, "session-" + number + ".log");
+        return GameLog.create(path, board);
+    }
+    
+    /**
+     * Error of the socket of a connection, which means that the client has closed it.
+     * 
+     * @author Julian Dieskau
+     * @version 1.0
+     */
+    private static final class ClosedConnection extends UncheckedIOException {
+        private static final long serialVersionUID = 1L;
+        
+        /**
+         * Constructor for the error of the socket.
+         * 
+         * @param cause IOException of the socket
+         */
+        ClosedConnection(IOException cause) {
+            super(cause);
+        }
+    }
+    
+    /**
+     * Input and output of one connection, with the same buffering as the BufferedTerminal: the output is only sent
+     * when reading the next command would block and when the connection is closed.
+     * 
+     * @author Julian Dieskau
+     * @version 1.0
+     */
+    private static final class Connection implements Input, Output, AutoCloseable {
+        /** Line separator that is used at the end of every line of output */
+        private static final String LINE_SEPARATOR = System.lineSeparator();
+        /** Socket of the connection */
+        private final Socket socket;
+        /** Reads the commands */
+        private final BufferedReader reader;
+        /** Collects the output */
+        private final Writer writer;
+        
+        /**
+         * Constructor that opens the streams of the socket.
+         * 
+         * @param socket Socket of the connection
+         * @throws ClosedConnection if the streams cannot be opened
+         */
+        Connection(Socket socket) {
+            this.socket = socket;
+            try {
+                this.reader = new BufferedReader(
+                        new InputStreamReader(socket.getInputStream(), StandardCharsets.UTF_8), BUFFER_SIZE);
+                this.writer = new BufferedWriter(
+                        new OutputStreamWriter(socket.getOutputStream(), StandardCharsets.UTF_8), BUFFER_SIZE);
+            } catch (IOException e) {
+                throw new ClosedConnection(e);
+            }
+        }
+        
+        @Override
+        public String read() {
+            try {
+                if (!this.reader.ready()) {
+                    this.writer.flush();
+                }
+                return this.reader.readLine();
+            } catch (IOException e) {
+                throw new ClosedConnection(e);
+            }
+        }
+        
+        @Override
+        public void print(String out) {
+            try {
+                this.writer.write(out);
+                this.writer.write(LINE_SEPARATOR);
+            } catch (IOException e) {
+                throw new ClosedConnection(e);
+            }
+        }
+        
+        @Override
+        public void print(char[] out) {
+            try {
+                this.writer.write(out);
+                this.writer.write(LINE_SEPARATOR);
+            } catch (IOException e) {
+                throw new ClosedConnection(e);
+            }
+        }
+        
+        /**
+         * Prints the error with the prefix "Error, ", as the Terminal does. Used as the Errors of the Session,
+         * its print-method has the same signature as the one of Output.
+         * 
+         * @param err   error-String
+         */
+        void printError(String err) {
+            try {
+                this.writer.write("Error, ");
+                this.writer.write(err);
+                this.writer.write(LINE_SEPARATOR);
+            } catch (IOException e) {
+                throw new ClosedConnection(e);
+            }
+        }
+        
+        @Override
+        public void close() {
+            try {
+                this.writer.flush();
+            } catch (IOException e) {
+                throw new ClosedConnection(e);
+            } finally {
+                try {
+                    this.socket.close();
+                } catch (IOException e) {
+                    // the socket is already broken, nothing left to release
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,115 @@
+package edu.kit.informatik;
+
+import edu.kit.informatik.core.Errors;
+import edu.kit.informatik.core.Input;
+import edu.kit.informatik.core.Output;
+import edu.kit.informatik.model.Board;
+import edu.kit.informatik.model.BoardSnapshot;
+import edu.kit.informatik.model.Game;
+import edu.kit.informatik.model.GameLog;
+import edu.kit.informatik.view.IO;
+
+/**
+ * One match of the game with its own Game- and IO-objects, that reads its commands from an Input and prints the
+ * results to an Output and Errors. Every session only changes its own objects, so multiple sessions can run at
+ * the same time, one per thread, and share the snapshot of the board that every game starts with.
+ * All games of a session can be appended to a GameLog, the session does not close it. A loaded game is appended
+ * to the log as a whole, so the replay goes on with it.
+ * 
+ * @author Julian Dieskau
+ * @version 1.0
+ */
+public final class Session {
+    /** Board that every game of the session starts with */
+    private final BoardSnapshot initialBoard;
+    /** Reads the commands */
+    private final Input in;
+    /** Prints the results of the commands */
+    private final Output out;
+    /** Prints the errors of the commands */
+    private final Errors err;
+    /** Handles all commands */
+    private final IO io;
+    /** Log of the games or <i>null</i> if they are not logged */
+    private final GameLog log;
+    /** Current Game-object */
+    private Game game;
+    /** {@value true} if exit() is called, controls the main loop of the session. */
+    private boolean shouldClose = false;
+    
+    /**
+     * Constructor for a session that starts a game with a new board restored from the snapshot.
+     * 
+     * @param initialBoard  BoardSnapshot   board that every game of the session starts with
+     * @param in            Input           that reads the commands
+     * @param out           Output          that prints the results
+     * @param err           Errors          that prints the errors
+     */
+    public Session(BoardSnapshot initialBoard, Input in, Output out, Errors err) {
+        this(initialBoard, in, out, err, null);
+    }
+    
+    /**
+     * Constructor for a session that starts a game with a new board restored from the snapshot and appends all
+     * its games to the log.
+     * 
+     * @param initialBoard  BoardSnapshot   board that every game of the session starts with
+     * @param in            Input           that reads the commands
+     * @param out           Output          that prints the results
+     * @param err           Errors          that prints the errors
+     * @param log           GameLog         created with the same board or <i>null</i> if the games are not logged
+     */
+    public Session(BoardSnapshot initialBoard, Input in, Output out, Errors err, GameLog log) {
+        this.initialBoard = initialBoard;
+        this.in = in;
+        this.out = out;
+        this.err = err;
+        this.log = log;
+        this.game = new Game();
+        this.game.init(new Board(initialBoard));
+        this.game.setLog(log);
+        this.io = new IO(this.game, this);
+    }
+    
+    /**
+     * Main-loop that calls the Input-Output-System to process the next input and print the output.
+     * Runs until exit() is called, by the quit command or at the end of the input.
+     */
+    public void run() {
+        while (!this.shouldClose) {
+            this.io.next(this.in, this.out, this.err, this.game);
+        }
+    }
+    
+    /**
+     * Replaces the game of the session by a new one that starts with a new board restored from the snapshot.
+     */
+    public void reset() {
+        if (this.log != null) {
+            this.log.reset();
+        }
+        this.game = new Game();
+        this.game.init(new Board(this.initialBoard));
+        this.game.setLog(this.log);
+    }
+    
+    /**
+     * Replaces the game of the session by a game that has been loaded from a file.
+     * 
+     * @param loaded    Game    that goes on instead of the current one
+     */
+    public void load(Game loaded) {
+        if (this.log != null) {
+            this.log.load(loaded);
+        }
+        this.game = loaded;
+        this.game.setLog(this.log);
+    }
+    
+    /**
+     * Stops the main-loop of the session. The current command still finishes but no new one will be read.
+     */
+    public void exit() {
+        this.shouldClose = true;
+    }
+}
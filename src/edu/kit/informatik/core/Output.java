@@ -13,4 +13,14 @@ public interface Output {
      * @param out output-String
      */
     void print(String out);
+    
+    /**
+     * Prints output that is given as characters to the user through the implemented way.
+     * Uses print(String) if not implemented, implement it to print long output without creating a String of it.
+     * 
+     * @param out output-characters
+     */
+    default void print(char[] out) {
+        this.print(new String(out));
+    }
 }
@@ -0,0 +1,511 @@
+package edu.kit.informatik.model;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+import edu.kit.informatik.model.Square.State;
+import edu.kit.informatik.model.objects.FireEngine;
+
+/**
+ * Second representation of the squares of a Board as bit masks, used to spread the fire over 64 squares at a time.
+ * Every mask has one bit per square, row by row, and every row starts at a new long, so the squares of a column are
+ * at the same bit in every row. There is a mask for every State, one for the forest squares, one for the squares
+ * that have burned in the current round and one for the squares with fire engines on them. The lightly and heavily
+ * burning squares of every row are counted, so rows without fire are skipped.
+ * <br><br>
+ * The Board keeps the masks up to date with every change of a square once they have been created, the spreading
+ * itself only computes which squares change and lets the Board change them, so the packed squares, the counts and
+ * the objects stay the same as with the spreading of GameLogic that visits every burning square.
+ * That this gives the same result as visiting the burning squares row by row follows from one property of a
+ * single spreading step: the heavily burning squares that have not burned in the round yet are the only ones
+ * that spread the fire, and no square becomes or stops being one of them during the step. So the step is the same
+ * as if all squares spread at the same time from the state before it, in any order.
+ * 
+ * @author Julian Dieskau
+ * @version 1.0
+ */
+final class BitBoard {
+    /** Number of squares in one long */
+    private static final int WORD_SIZE = Long.SIZE;
+    /** Shift that turns a column into the index of its long in the row */
+    private static final int WORD_SHIFT = 6;
+    /** Bands of rows for every thread when spreading in parallel, more than one so the threads are busy evenly */
+    private static final int BANDS_PER_THREAD = 4;
+    /** Least amount of rows of a band when spreading in parallel */
+    private static final int MIN_BAND_ROWS = 16;
+    
+    /** amount of rows of the board */
+    private final int rows;
+    /** amount of columns of the board */
+    private final int columns;
+    /** Number of longs of one row */
+    private final int stride;
+    /** Bits of the last long of a row that belong to a column of the board */
+    private final long lastWord;
+    /** Squares that are wet */
+    private final long[] wet;
+    /** Squares that are dry */
+    private final long[] dry;
+    /** Squares that are lightly burning */
+    private final long[] sparking;
+    /** Squares that are heavily burning */
+    private final long[] burning;
+    /** Squares that are a forest */
+    private final long[] forest;
+    /** Squares that have burned in the current round */
+    private final long[] burned;
+    /** Squares that have at least one fire engine on them */
+    private final long[] engines;
+    /** Amount of lightly and heavily burning squares of every row */
+    private final int[] fireInRow;
+    
+    /**
+     * Constructor that creates the masks from the current squares of the board.
+     * 
+     * @param board Board to create the masks of
+     */
+    BitBoard(Board board) {
+        this.rows = board.getRows();
+        this.columns = board.getColumns();
+        this.stride = (this.columns + WORD_SIZE - 1) >>> WORD_SHIFT;
+        int rest = this.columns % WORD_SIZE;
+        this.lastWord = rest == 0 ? -1L : (1L << rest) - 1;
+        int length = this.rows * this.stride;
+        this.wet = new long[length];
+        this.dry = new long[length];
+        this.sparking = new long[length];
+        this.burning = new long[length];
+        this.forest = new long[length];
+        this.burned = new long[length];
+        this.engines = new long[length];
+        this.fireInRow = new int[this.rows];
+        for (FireEngine engine : board.getFireEngines()) {
+            this.setEngines(engine.getRowPosition() * this.columns + engine.getColumnPosition(), true);
+        }
+        for (int index = 0; index < this.rows * this.columns; index++) {
+            int word = this.word(index);
+            long bit = bit(index % this.columns);
+            this.mask(board.getState(index))[word] |= bit;
+            if (isFire(board.getState(index))) {
+                this.fireInRow[index / this.columns]++;
+            }
+            if (board.isForest(index)) {
+                this.forest[word] |= bit;
+            }
+            if (board.burnedThisRound(index)) {
+                this.burned[word] |= bit;
+            }
+        }
+    }
+    
+    /**
+     * Copy-constructor for the masks of a copy of the board.
+     * 
+     * @param other BitBoard to copy
+     */
+    BitBoard(BitBoard other) {
+        this.rows = other.rows;
+        this.columns = other.columns;
+        this.stride = other.stride;
+        this.lastWord = other.lastWord;
+        this.wet = other.wet.clone();
+        this.dry = other.dry.clone();
+        this.sparking = other.sparking.clone();
+        this.burning = other.burning.clone();
+        this.forest = other.forest.clone();
+        this.burned = other.burned.clone();
+        this.engines = other.engines.clone();
+        this.fireInRow = other.fireInRow.clone();
+    }
+    
+    /**
+     * Creates the masks of the board again and checks that they are the same as the ones kept up to date by the
+     * board. Only used in assertions.
+     * 
+     * @param board Board of the masks
+     * @return {@value true} if the masks are consistent, otherwise an AssertionError is thrown
+     */
+    boolean consistent(Board board) {
+        BitBoard fresh = new BitBoard(board);
+        assert Arrays.equals(fresh.wet, this.wet) && Arrays.equals(fresh.dry, this.dry)
+                && Arrays.equals(fresh.sparking, this.sparking) && Arrays.equals(fresh.burning, this.burning)
+                && Arrays.equals(fresh.forest, this.forest) && Arrays.equals(fresh.burned, this.burned)
+                && Arrays.equals(fresh.engines, this.engines) && Arrays.equals(fresh.fireInRow, this.fireInRow)
+                : "bit masks are not up to date";
+        return true;
+    }
+    
+    /**
+     * Computes the index of the long that holds the square with the given index.
+     * 
+     * @param index of the square in the packed data of the board
+     * @return index of the long in the masks
+     */
+    private int word(int index) {
+        return (index / this.columns) * this.stride + ((index % this.columns) >>> WORD_SHIFT);
+    }
+    
+    /**
+     * Computes the bit of the given column in its long.
+     * 
+     * @param column    of the square
+     * @return long with only the bit of the column set
+     */
+    private static long bit(int column) {
+        return 1L << column;
+    }
+    
+    /**
+     * Tells if a square in the given State is lightly or heavily burning.
+     * 
+     * @param s State of the square
+     * @return {@value true} if the square is on fire
+     */
+    private static boolean isFire(State s) {
+        return s == State.SPARKING || s == State.BURNING;
+    }
+    
+    /**
+     * Gives the mask of the squares in the given State.
+     * 
+     * @param s State of the squares
+     * @return mask of the State
+     */
+    private long[] mask(State s) {
+        switch (s) {
+            case WET:
+                return this.wet;
+            case DRY:
+                return this.dry;
+            case SPARKING:
+                return this.sparking;
+            default:
+                return this.burning;
+        }
+    }
+    
+    /**
+     * Moves the square with the given index from the mask of the old State to the mask of the new one.
+     * 
+     * @param index of the square
+     * @param old   State of the square before
+     * @param s     new State of the square
+     */
+    void setState(int index, State old, State s) {
+        int word = this.word(index);
+        long bit = bit(index % this.columns);
+        this.mask(old)[word] &= ~bit;
+        this.mask(s)[word] |= bit;
+        if (isFire(old) != isFire(s)) {
+            this.fireInRow[index / this.columns] += isFire(s) ? 1 : -1;
+        }
+    }
+    
+    /**
+     * Sets or clears the bit of the square with the given index in the mask of the squares burned in the round.
+     * 
+     * @param index     of the square
+     * @param b         new value of the burnedThisRound flag
+     */
+    void setBurned(int index, boolean b) {
+        int word = this.word(index);
+        long bit = bit(index % this.columns);
+        if (b) {
+            this.burned[word] |= bit;
+        } else {
+            this.burned[word] &= ~bit;
+        }
+    }
+    
+    /**
+     * Sets or clears the bit of the square with the given index in the mask of the squares with fire engines.
+     * 
+     * @param index     of the square
+     * @param b         {@value true} if there is at least one fire engine on the square
+     */
+    void setEngines(int index, boolean b) {
+        int word = this.word(index);
+        long bit = bit(index % this.columns);
+        if (b) {
+            this.engines[word] |= bit;
+        } else {
+            this.engines[word] &= ~bit;
+        }
+    }
+    
+    /**
+     * Heavily burning squares that have not burned in the current round yet, these spread the fire.
+     * 
+     * @param word  index of the long
+     * @return mask of the spreading squares in the long
+     */
+    private long spreading(int word) {
+        return this.burning[word] & ~this.burned[word];
+    }
+    
+    /**
+     * Computes the squares of the long that the wind blows the fire to from the spreading squares, without
+     * looking at the squares themselves.
+     * 
+     * @param d     Direction of the wind
+     * @param row   of the long
+     * @param w     index of the long in the row
+     * @param saved spreading squares of the row the wind comes from for N and S, saved before the step because
+     *              another band changes that row at the same time, or <i>null</i> to read them from the masks
+     * @return mask of the squares that are reached by the fire
+     */
+    private long reached(Direction d, int row, int w, long[] saved) {
+        int word = row * this.stride + w;
+        switch (d) {
+            case N:
+                if (saved != null) {
+                    return saved[w];
+                }
+                return row + 1 < this.rows ? this.spreading(word + this.stride) : 0L;
+            case S:
+                if (saved != null) {
+                    return saved[w];
+                }
+                return row > 0 ? this.spreading(word - this.stride) : 0L;
+            case E:
+                return (this.spreading(word) << 1) | (w > 0 ? this.spreading(word - 1) >>> (WORD_SIZE - 1) : 0L);
+            default:
+                return (this.spreading(word) >>> 1)
+                        | (w + 1 < this.stride ? this.spreading(word + 1) << (WORD_SIZE - 1) : 0L);
+        }
+    }
+    
+    /**
+     * One step of spreading the fire in the given direction, with the same result as GameLogic.burnToDirection()
+     * that visits all burning squares: all lightly burning squares that have not burned in the round become heavily
+     * burning and every heavily burning square that has not burned in the round burns its neighbour in the
+     * direction of the wind. The squares are changed through the board, so its counts and objects are updated.
+     * 
+     * @param d     Direction of the wind
+     * @param board Board of the masks
+     */
+    void spread(Direction d, Board board) {
+        for (int row = 0; row < this.rows; row++) {
+            this.spreadRow(d, row, null, board, null);
+        }
+    }
+    
+    /**
+     * Same step as spread(), but the rows are split into bands that are spread at the same time in the pool.
+     * Every band only changes the squares of its own rows and the rows the wind comes from at the borders of the
+     * bands are saved before, so the bands do not depend on each other. The counts, the burned and burning squares
+     * and the fire engines of the board are updated afterwards band by band, so the result is the same as the one of
+     * spread(), no matter how many threads there are. Changes made this way are not recorded in a journal.
+     * 
+     * @param d     Direction of the wind
+     * @param board Board of the masks
+     * @param pool  ForkJoinPool to spread the bands in
+     */
+    void spreadParallel(Direction d, Board board, ForkJoinPool pool) {
+        int wanted = pool.getParallelism() * BANDS_PER_THREAD;
+        int height = Math.max(MIN_BAND_ROWS, (this.rows + wanted - 1) / wanted);
+        int[] arr = d.intArray();
+        List<Band> bands = new ArrayList<>();
+        for (int first = 0; first < this.rows; first += height) {
+            int last = Math.min(this.rows, first + height) - 1;
+            // the wind comes from the row next to the band for N and S
+            int from = arr[0] == 0 ? -1 : (arr[0] < 0 ? last + 1 : first - 1);
+            long[] saved = null;
+            if (from >= 0 && from < this.rows) {
+                saved = new long[this.stride];
+                for (int w = 0; w < this.stride; w++) {
+                    saved[w] = this.spreading(from * this.stride + w);
+                }
+            }
+            bands.add(new Band(this, d, board, first, last, saved));
+        }
+        pool.invoke(new Bands(bands));
+        for (Band band : bands) {
+            band.merge();
+        }
+    }
+    
+    /**
+     * Spreads the fire in one row, changes the squares directly through the board if there is no band or only the
+     * squares themselves if the row is spread as part of a band.
+     * 
+     * @param d     Direction of the wind
+     * @param row   to spread the fire in
+     * @param saved spreading squares of the row the wind comes from or <i>null</i> to read them from the masks
+     * @param board Board of the masks
+     * @param band  Band the row belongs to or <i>null</i> if all rows are spread one after the other
+     */
+    private void spreadRow(Direction d, int row, long[] saved, Board board, Band band) {
+        // the row of the squares that spread the fire to this row
+        int from = row - d.intArray()[0];
+        boolean fireFrom = from != row && from >= 0 && from < this.rows
+                && (saved != null || this.fireInRow[from] > 0);
+        if (this.fireInRow[row] == 0 && !fireFrom) {
+            return;
+        }
+        for (int w = 0; w < this.stride; w++) {
+            int word = row * this.stride + w;
+            long inside = w + 1 < this.stride ? -1L : this.lastWord;
+            long open = this.forest[word] & ~this.burned[word] & inside;
+            long ignite = this.sparking[word] & open;
+            long reached = this.reached(d, row, w, saved) & open & ~ignite;
+            long toDry = reached & this.wet[word];
+            long toSparking = reached & this.dry[word];
+            // a heavily burning square that is reached stays burning and only burns the fire engines on it
+            long burnEngines = (ignite | (reached & this.burning[word])) & this.engines[word];
+            long changed = ignite | toDry | toSparking | burnEngines;
+            if (changed == 0) {
+                continue;
+            }
+            int first = row * this.columns + (w << WORD_SHIFT);
+            for (long bits = changed; bits != 0; bits &= bits - 1) {
+                long bit = Long.lowestOneBit(bits);
+                int index = first + Long.numberOfTrailingZeros(bits);
+                State s = null;
+                if ((ignite & bit) != 0) {
+                    s = State.BURNING;
+                } else if ((toDry & bit) != 0) {
+                    s = State.DRY;
+                } else if ((toSparking & bit) != 0) {
+                    s = State.SPARKING;
+                }
+                if (band == null) {
+                    if (s != null) {
+                        board.burnTo(index, s);
+                    }
+                    if ((burnEngines & bit) != 0) {
+                        board.burnFireEngines(index);
+                    }
+                } else {
+                    band.burn(index, s, (burnEngines & bit) != 0);
+                }
+            }
+        }
+    }
+    
+    /**
+     * Rows of the board that are spread by one thread, collects the changes that have to be made to the board
+     * afterwards, because the board is shared by all bands.
+     * 
+     * @author Julian Dieskau
+     * @version 1.0
+     */
+    private static final class Band extends RecursiveAction {
+        private static final long serialVersionUID = 1L;
+        /** Masks of the board */
+        private final transient BitBoard bits;
+        /** Direction of the wind */
+        private final Direction d;
+        /** Board of the masks */
+        private final transient Board board;
+        /** First row of the band */
+        private final int first;
+        /** Last row of the band */
+        private final int last;
+        /** Spreading squares of the row the wind comes from into the border row of the band or <i>null</i> */
+        private final long[] saved;
+        /** Change of the amount of forest squares in every State, by the ordinal of the State */
+        private final int[] stateDelta = new int[State.values().length];
+        /** Indices of the squares that have burned, row by row */
+        private int[] burned = new int[WORD_SIZE];
+        /** Amount of squares that have burned */
+        private int burnedCount;
+        /** Indices of the squares whose fire engines burn, row by row */
+        private int[] engines = new int[0];
+        /** Amount of squares whose fire engines burn */
+        private int engineCount;
+        
+        /**
+         * Constructor for the band of rows from first to last.
+         * 
+         * @param bits  BitBoard    masks of the board
+         * @param d     Direction   of the wind
+         * @param board Board       of the masks
+         * @param first int         first row of the band
+         * @param last  int         last row of the band
+         * @param saved long[]      spreading squares of the row next to the band the wind comes from or <i>null</i>
+         */
+        Band(BitBoard bits, Direction d, Board board, int first, int last, long[] saved) {
+            this.bits = bits;
+            this.d = d;
+            this.board = board;
+            this.first = first;
+            this.last = last;
+            this.saved = saved;
+        }
+        
+        @Override
+        protected void compute() {
+            // only the border row next to the saved row reads it, the others read rows of this band
+            int border = this.d == Direction.N ? this.last : this.first;
+            for (int row = this.first; row <= this.last; row++) {
+                this.bits.spreadRow(this.d, row, row == border ? this.saved : null, this.board, this);
+            }
+        }
+        
+        /**
+         * Burns the square in place and remembers what needs to be changed on the board afterwards.
+         * 
+         * @param index         of the square
+         * @param s             State the square burns to or <i>null</i> if it does not change
+         * @param burnEngines   {@value true} if the fire engines on the square burn
+         */
+        void burn(int index, State s, boolean burnEngines) {
+            if (s != null) {
+                State old = this.board.burnInPlace(index, s);
+                this.stateDelta[old.ordinal()]--;
+                this.stateDelta[s.ordinal()]++;
+                if (this.burnedCount == this.burned.length) {
+                    this.burned = Arrays.copyOf(this.burned, 2 * this.burnedCount);
+                }
+                this.burned[this.burnedCount++] = index;
+            }
+            if (burnEngines) {
+                if (this.engineCount == this.engines.length) {
+                    this.engines = Arrays.copyOf(this.engines, 2 * this.engineCount + 1);
+                }
+                this.engines[this.engineCount++] = index;
+            }
+        }
+        
+        /**
+         * Makes the changes of the band on the board that are shared with the other bands, needs to be called for
+         * one band after the other.
+         */
+        void merge() {
+            this.board.mergeBurned(this.burned, this.burnedCount, this.stateDelta);
+            for (int k = 0; k < this.engineCount; k++) {
+                this.board.burnFireEngines(this.engines[k]);
+            }
+        }
+    }
+    
+    /**
+     * Task that spreads all bands in the pool and waits until they are done.
+     * 
+     * @author Julian Dieskau
+     * @version 1.0
+     */
+    private static final class Bands extends RecursiveAction {
+        private static final long serialVersionUID = 1L;
+        /** Bands to spread */
+        private final transient List<Band> bands;
+        
+        /**
+         * Constructor for the task of the bands.
+         * 
+         * @param bands List of the bands
+         */
+        Bands(List<Band> bands) {
+            this.bands = bands;
+        }
+        
+        @Override
+        protected void compute() {
+            invokeAll(this.bands);
+        }
+    }
+}
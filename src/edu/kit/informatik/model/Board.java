@@ -1,74 +1,837 @@
 package edu.kit.informatik.model;
 
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ForkJoinPool;
 
+import edu.kit.informatik.model.Player.Players;
+import edu.kit.informatik.model.Square.State;
 import edu.kit.informatik.model.objects.BoardObject;
+import edu.kit.informatik.model.objects.BoardObject.Kind;
+import edu.kit.informatik.model.objects.FireEngine;
+import edu.kit.informatik.model.objects.FireStation;
+import edu.kit.informatik.model.objects.Lake;
+import edu.kit.informatik.presenter.input.Patterns;
 
 /**
- * Class that represents the board of the game and holds a matrix for the Squares and what stands on them
+ * Class that represents the board of the game and holds the packed data of all squares and what stands on them
  * as well as methods to access those.
+ * <br><br>
+ * Every square is stored as a single byte in a row by row array: the lowest two bits hold the ordinal of its
+ * State, the next bit tells if it is a forest and the one after that if it has burned in the current round.
+ * The BoardObjects are kept in a side table that only has entries for the squares that hold any.
+ * The indices of all lightly and heavily burning squares are tracked as well, so the fire can be spread
+ * without looking at the rest of the board, and the forest squares of every State are counted.
+ * For the reset after every round the board also remembers which squares have burned, in no particular order, and
+ * which fire engines have performed an action in the round, so nothing else needs to be reset. Fire engines can be
+ * looked up by their name without a search and counted for every player, all placing and removing of objects needs
+ * to go through the Square to keep that index up to date. Running with assertions enabled (-ea) checks the index
+ * against the side table of the objects.
+ * When the fire is spread with bit masks, the board creates a BitBoard the first time and keeps it up to date with
+ * every change from then on.
+ * Square-objects are only created as light views on that data when calling getSquareAtPosition().
+ * A board at the start of a game can be saved as a BoardSnapshot, new boards are then restored from it by copying
+ * the arrays. In the middle of a game the snapshot is completed by the state of the current round, which is written
+ * to a buffer by encodeRound() and read back into the restored board by decodeRound().
  * 
  * @author Julian Dieskau
  * @version 1.0
  */
 public class Board {
-    /** Square[rows][columns] board */
-    private Square[][] board;
+    /** Bits of a packed square that hold the ordinal of its State */
+    private static final int STATE_MASK = 0b0011;
+    /** Bit of a packed square that is set if the square is a forest */
+    private static final int FOREST_BIT = 0b0100;
+    /** Bit of a packed square that is set if the square has burned in the current round */
+    private static final int BURNED_BIT = 0b1000;
+    /** All States in the order of their ordinal to unpack them */
+    private static final State[] STATES = State.values();
+    /** All Players-ids in the order of their ordinal */
+    private static final Players[] PLAYERS = Players.values();
+    /** Flag of an encoded fire engine that has extinguished or refilled, so it cannot move anymore */
+    private static final int DONE_ACTION_FLAG = 0b01;
+    /** Flag of an encoded fire engine that has performed any action in the current round */
+    private static final int ACTED_FLAG = 0b10;
+    
+    /** packed squares of the board, row by row */
+    private byte[] cells;
+    /** Lists of the objects on the board by the index of their square, squares without objects have no entry */
+    private Map<Integer, List<BoardObject>> objects;
+    /** All fire engines on the board by their name */
+    private Map<String, FireEngine> engines;
+    /** Amount of fire engines on the board for every player, by the ordinal of the Players-id */
+    private int[] engineCount;
+    /** Indices of all squares that are lightly or heavily burning */
+    private BitSet fire;
+    /** Amount of forest squares in every State, by the ordinal of the State */
+    private int[] stateCount;
+    /** Indices of the squares that have burned in the current round */
+    private List<Integer> burnedSquares;
+    /** Fire engines that have performed an action in the current round */
+    private Set<FireEngine> actedEngines;
     /** amount of rows of the board */
     private int rows;
     /** amount of columns of the board */
     private int columns;
+    /** Journal that the changes are recorded in to undo them or <i>null</i> if they are not recorded */
+    private Journal journal;
+    /** Bit masks of the squares to spread the fire with, <i>null</i> until they are needed the first time */
+    private BitBoard bits;
+    /** Number of times a square has changed its State, for the FlightEvents */
+    private long stateChanges;
     
     
     /**
-     * Constructor for the board that initializes the size of the board
-     * and then sets the states of all squares as well as the predefined objects on the board.
+     * Constructor for the board that initializes the size of the board.
+     * All squares need to be set with initSquare() afterwards before the board can be used in a game.
      * 
      * @param m int     number of rows
      * @param n int     number of columns
-     * @param squares   List of all Square-objects that need to be set on the board
      */
-    public Board(int m, int n, List<Square> squares) {
-        this.board =  new Square[m][n];
+    public Board(int m, int n) {
+        this.cells = new byte[m * n];
+        this.objects = new HashMap<>();
+        this.engines = new HashMap<>();
+        this.engineCount = new int[PLAYERS.length];
+        this.fire = new BitSet(m * n);
+        this.stateCount = new int[STATES.length];
+        this.burnedSquares = new ArrayList<>();
+        this.actedEngines = new HashSet<>();
         this.rows = m;
         this.columns = n;
-        this.initBoard(squares);
     }
     
     /**
-     * Takes the squares-list and puts its elements on the board.
-     * The list is parsed from the command line and takes the elements from top left to bottom right,
-     * row by row.
+     * Constructor that restores the board from a snapshot: the packed squares and burning squares are copied in bulk,
+     * the objects are created again on their squares.
      * 
-     * @param squares List<Square>  list of all elements of the board
+     * @param snapshot  BoardSnapshot to restore the board from
      */
-    private void initBoard(List<Square> squares) {
-        // Assumption: this.rows * this.columns = squares.length
-        int s = 0;
-        // Go through the rows and columns and set it to the next Square from the List
-        System.out.println(squares.size());
-        for (int i = 0; i < this.rows; i++) {
-            for (int j = 0; j < this.columns; j++) {
-                Square sq = squares.get(s);
-                // Give the Object on the Square their position and then proceed
-                List<BoardObject> list = sq.getObjects();
-                if (list.size() > 0) {
-                    list.get(0).changePosition(i, j);
-                }
-                this.setSquare(i, j, sq);
-                s++;
+    public Board(BoardSnapshot snapshot) {
+        this.cells = snapshot.getCells().clone();
+        this.objects = new HashMap<>();
+        this.engines = new HashMap<>();
+        this.engineCount = new int[PLAYERS.length];
+        this.fire = BitSet.valueOf(snapshot.getFire());
+        this.stateCount = snapshot.getStateCount().clone();
+        this.burnedSquares = new ArrayList<>();
+        this.actedEngines = new HashSet<>();
+        this.rows = snapshot.getRows();
+        this.columns = snapshot.getColumns();
+        for (int k = 0; k < snapshot.countObjects(); k++) {
+            int index = snapshot.getObjectSquare(k);
+            BoardObject obj = createObject(snapshot.getObjectKind(k), snapshot.getObjectName(k));
+            obj.changePosition(index / this.columns, index % this.columns);
+            this.addObject(index, obj);
+        }
+    }
+    
+    /**
+     * Copy-constructor that copies the whole state of the other board in the middle of a game, so the copy can be
+     * changed without changing the other board: the packed squares and burning squares are copied in bulk, the
+     * objects are copied onto the same squares and fire engines keep their water, action points and what they did
+     * in the current round.
+     * 
+     * @param other Board to copy
+     */
+    public Board(Board other) {
+        this.cells = other.cells.clone();
+        this.objects = new HashMap<>();
+        this.engines = new HashMap<>();
+        this.engineCount = new int[PLAYERS.length];
+        this.fire = (BitSet) other.fire.clone();
+        this.stateCount = other.stateCount.clone();
+        this.burnedSquares = new ArrayList<>(other.burnedSquares);
+        this.actedEngines = new HashSet<>();
+        this.rows = other.rows;
+        this.columns = other.columns;
+        this.stateChanges = other.stateChanges;
+        this.bits = other.bits == null ? null : new BitBoard(other.bits);
+        for (Map.Entry<Integer, List<BoardObject>> entry : other.objects.entrySet()) {
+            for (BoardObject b : entry.getValue()) {
+                BoardObject obj = b.getKind() == Kind.FIRE_ENGINE
+                        ? new FireEngine((FireEngine) b, this) : createObject(b.getKind(), b.getName());
+                obj.changePosition(b.getRowPosition(), b.getColumnPosition());
+                this.addObject(entry.getKey(), obj);
+            }
+        }
+        for (FireEngine engine : other.actedEngines) {
+            // engines that have burned in this round are not on the board anymore and need no reset
+            FireEngine copy = this.engines.get(engine.getName());
+            if (copy != null) {
+                this.actedEngines.add(copy);
+            }
+        }
+        assert this.enginesConsistent();
+    }
+    
+    /**
+     * Checks that a snapshot that has been read from a file is consistent, so a board can be restored from it and
+     * the fire can be spread on it: every packed square is valid, exactly the lightly and heavily burning forest
+     * squares are in the set of burning squares, the forest squares of every State are counted correctly, fire
+     * engines have valid names and stand on forest squares, the other objects do not, and no two fire engines or
+     * fire stations have the same name.
+     * 
+     * @param snapshot  BoardSnapshot   to check
+     * @throws IllegalArgumentException if the snapshot is not consistent
+     */
+    static void checkSnapshot(BoardSnapshot snapshot) {
+        byte[] cells = snapshot.getCells();
+        int[] stateCount = snapshot.getStateCount();
+        if (stateCount.length != STATES.length) {
+            throw new IllegalArgumentException("invalid number of counted States: " + stateCount.length);
+        }
+        BitSet fire = BitSet.valueOf(snapshot.getFire());
+        if (fire.length() > cells.length) {
+            throw new IllegalArgumentException("burning square outside of the board: " + (fire.length() - 1));
+        }
+        int[] count = new int[STATES.length];
+        for (int index = 0; index < cells.length; index++) {
+            int cell = cells[index];
+            if ((cell & ~(STATE_MASK | FOREST_BIT | BURNED_BIT)) != 0) {
+                throw new IllegalArgumentException("invalid square " + index + ": " + cell);
+            }
+            State s = STATES[cell & STATE_MASK];
+            boolean isForest = (cell & FOREST_BIT) != 0;
+            boolean isBurning = s == State.SPARKING || s == State.BURNING;
+            if (isBurning && !isForest || isBurning != fire.get(index)) {
+                throw new IllegalArgumentException("square " + index + " does not match the burning squares");
+            }
+            if (isForest) {
+                count[s.ordinal()]++;
             }
         }
+        if (!Arrays.equals(count, stateCount)) {
+            throw new IllegalArgumentException("forest squares are not counted correctly");
+        }
+        Set<String> names = new HashSet<>();
+        for (int k = 0; k < snapshot.countObjects(); k++) {
+            Kind kind = snapshot.getObjectKind(k);
+            String name = snapshot.getObjectName(k);
+            boolean onForest = (cells[snapshot.getObjectSquare(k)] & FOREST_BIT) != 0;
+            if (kind == Kind.FIRE_ENGINE && !Patterns.isFireEngine(name)) {
+                throw new IllegalArgumentException("invalid name of a fire engine: " + name);
+            } else if (onForest != (kind == Kind.FIRE_ENGINE)) {
+                throw new IllegalArgumentException(name + " is on the wrong kind of square");
+            } else if (kind != Kind.LAKE && !names.add(name)) {
+                throw new IllegalArgumentException("two objects are named " + name);
+            }
+        }
+    }
+    
+    /**
+     * Creates a new board object of the given kind with the given name.
+     * 
+     * @param kind  Kind of the object
+     * @param name  String of the name of the object
+     * @return the new BoardObject
+     */
+    private static BoardObject createObject(Kind kind, String name) {
+        switch (kind) {
+            case FIRE_ENGINE:
+                return new FireEngine(name);
+            case FIRE_STATION:
+                return new FireStation(name);
+            default:
+                return new Lake();
+        }
     }
     
     /**
-     * Sets the Square at the specified row and column on the board.
+     * Saves the board in an immutable snapshot that new boards can be restored from with new Board(snapshot).
+     * Only to be called at the start of a game, fire engines are restored with a full tank and all action points
+     * and no square has burned in the current round.
+     * 
+     * @return BoardSnapshot of the squares and objects of the board
+     */
+    public BoardSnapshot snapshot() {
+        assert this.burnedSquares.isEmpty() : "snapshot taken in the middle of a round";
+        return this.copySquares();
+    }
+    
+    /**
+     * Saves the squares and the objects of the board in a snapshot at any time of a game, the squares keep their
+     * flag if they have burned in the current round. Everything else of the current round is saved by encodeRound().
+     * The objects are saved in the order of their squares, so equal boards give equal snapshots.
+     * 
+     * @return BoardSnapshot of the squares and objects of the board
+     */
+    BoardSnapshot copySquares() {
+        int amount = 0;
+        for (List<BoardObject> list : this.objects.values()) {
+            amount += list.size();
+        }
+        Integer[] indices = this.objects.keySet().toArray(new Integer[0]);
+        Arrays.sort(indices);
+        Kind[] kinds = new Kind[amount];
+        String[] names = new String[amount];
+        int[] squares = new int[amount];
+        int k = 0;
+        for (int index : indices) {
+            for (BoardObject b : this.objects.get(index)) {
+                kinds[k] = b.getKind();
+                names[k] = b.getName();
+                squares[k] = index;
+                k++;
+            }
+        }
+        return new BoardSnapshot(this.rows, this.columns, this.cells.clone(), this.fire.toLongArray(),
+                this.stateCount.clone(), kinds, names, squares);
+    }
+    
+    /**
+     * Sets the state of the square at the specified row and column and places the object on it, if there is one.
+     * Only to be used while initializing the board, the object is also told its position.
+     * 
+     * @param i         int         row
+     * @param j         int         column
+     * @param s         State       initial state of the Square
+     * @param isForest  boolean     if it can be burned or not
+     * @param obj       BoardObject to be placed on the square or <i>null</i> if there is none
+     */
+    public void initSquare(int i, int j, State s, boolean isForest, BoardObject obj) {
+        int index = this.index(i, j);
+        this.cells[index] = (byte) (s.ordinal() | (isForest ? FOREST_BIT : 0));
+        this.updateFire(index, s);
+        if (isForest) {
+            this.stateCount[s.ordinal()]++;
+        }
+        if (obj != null) {
+            obj.changePosition(i, j);
+            this.addObject(index, obj);
+        }
+    }
+    
+    /**
+     * Computes the index of the square at the specified row and column in the packed array.
      * 
      * @param i int     row
      * @param j int     column
+     * @return index of the square
      */
-    private void setSquare(int i, int j, Square s) {
-        this.board[i][j] = s;
+    private int index(int i, int j) {
+        return i * this.columns + j;
+    }
+    
+    /**
+     * Getter for the State of the square with the given index.
+     * 
+     * @param index of the square
+     * @return State of the square
+     */
+    State getState(int index) {
+        return STATES[this.cells[index] & STATE_MASK];
+    }
+    
+    /**
+     * Sets the State of the square with the given index.
+     * 
+     * @param index of the square
+     * @param s     new State of the square
+     */
+    void setState(int index, State s) {
+        State old = this.getState(index);
+        if (this.journal != null) {
+            long changes = this.stateChanges;
+            this.journal.record(() -> {
+                this.setState(index, old);
+                this.stateChanges = changes;
+            });
+        }
+        if (this.bits != null) {
+            this.bits.setState(index, old, s);
+        }
+        if (this.isForest(index)) {
+            this.stateCount[this.cells[index] & STATE_MASK]--;
+            this.stateCount[s.ordinal()]++;
+        }
+        if (old != s) {
+            this.stateChanges++;
+        }
+        this.cells[index] = (byte) ((this.cells[index] & ~STATE_MASK) | s.ordinal());
+        this.updateFire(index, s);
+    }
+    
+    /**
+     * Getter for the amount of forest squares on the board that are in the given State.
+     * 
+     * @param s State of the squares to count
+     * @return amount of forest squares in that State
+     */
+    public int countForestSquares(State s) {
+        assert this.stateCountConsistent();
+        return this.stateCount[s.ordinal()];
+    }
+    
+    /**
+     * Counts the forest squares of every State by looking at all squares of the board and checks that the counts
+     * are the same as the ones kept up to date by setState(). Only used in assertions.
+     * 
+     * @return {@value true} if the counts are consistent, otherwise an AssertionError is thrown
+     */
+    private boolean stateCountConsistent() {
+        int[] count = new int[STATES.length];
+        for (int index = 0; index < this.cells.length; index++) {
+            if (this.isForest(index)) {
+                count[this.cells[index] & STATE_MASK]++;
+            }
+        }
+        assert Arrays.equals(count, this.stateCount) : "forest squares are not counted correctly";
+        return true;
+    }
+    
+    /**
+     * Adds the square with the given index to the burning squares or removes it from them, depending on the state.
+     * 
+     * @param index of the square
+     * @param s     new State of the square
+     */
+    private void updateFire(int index, State s) {
+        if (s == State.SPARKING || s == State.BURNING) {
+            this.fire.set(index);
+        } else {
+            this.fire.clear(index);
+        }
+    }
+    
+    /**
+     * Returns the index of the first lightly or heavily burning square that has an index greater than or equal
+     * to the given one, so iterating from 0 visits all burning squares row by row.
+     * 
+     * @param fromIndex index to start searching from
+     * @return index of the next burning square or -1 if there is none
+     */
+    int nextBurningSquare(int fromIndex) {
+        return this.fire.nextSetBit(fromIndex);
+    }
+    
+    /**
+     * Getter for the forest flag of the square with the given index.
+     * 
+     * @param index of the square
+     * @return {@value true} if the square is a forest
+     */
+    boolean isForest(int index) {
+        return (this.cells[index] & FOREST_BIT) != 0;
+    }
+    
+    /**
+     * Getter for the burnedThisRound flag of the square with the given index.
+     * 
+     * @param index of the square
+     * @return {@value true} if the square has burned in the current round
+     */
+    boolean burnedThisRound(int index) {
+        return (this.cells[index] & BURNED_BIT) != 0;
+    }
+    
+    /**
+     * Sets the burnedThisRound flag of the square with the given index.
+     * 
+     * @param index     of the square
+     * @param burned    new value of the flag
+     */
+    void setBurnedThisRound(int index, boolean burned) {
+        if (burned) {
+            if (!this.burnedThisRound(index)) {
+                this.burnedSquares.add(index);
+                if (this.journal != null) {
+                    this.journal.record(() -> {
+                        this.burnedSquares.remove(this.burnedSquares.size() - 1);
+                        this.flagBurned(index, false);
+                    });
+                }
+            }
+        }
+        this.flagBurned(index, burned);
+    }
+    
+    /**
+     * Sets or clears the bit of the square with the given index that tells if it has burned in the current round,
+     * without changing the list of the squares that have burned.
+     * 
+     * @param index     of the square
+     * @param burned    new value of the flag
+     */
+    private void flagBurned(int index, boolean burned) {
+        if (burned) {
+            this.cells[index] |= BURNED_BIT;
+        } else {
+            this.cells[index] &= ~BURNED_BIT;
+        }
+        if (this.bits != null) {
+            this.bits.setBurned(index, burned);
+        }
+    }
+    
+    /**
+     * Sets the square with the given index to the State it burns to and flags it as burned in the current round.
+     * 
+     * @param index of the square
+     * @param s     State the square burns to
+     */
+    void burnTo(int index, State s) {
+        this.setState(index, s);
+        this.setBurnedThisRound(index, true);
+    }
+    
+    /**
+     * Removes all fire engines from the square with the given index, when it is heavily burning. Goes backwards
+     * through the list of objects, so removing one does not change the positions of the ones before.
+     * 
+     * @param index of the square
+     */
+    void burnFireEngines(int index) {
+        List<BoardObject> list = this.getObjects(index);
+        for (int i = list.size() - 1; i >= 0; i--) {
+            if (list.get(i).getKind() == Kind.FIRE_ENGINE) {
+                this.removeObject(index, i);
+            }
+        }
+    }
+    
+    /**
+     * Sets the square with the given index to the State it burns to and flags it as burned in the current round,
+     * but only changes the square itself and its bit masks, so it can be called for squares of different rows at
+     * the same time. The counts and the burned and burning squares need to be updated with mergeBurned() afterwards.
+     * 
+     * @param index of the square
+     * @param s     State the square burns to
+     * @return State of the square before
+     */
+    State burnInPlace(int index, State s) {
+        State old = this.getState(index);
+        this.cells[index] = (byte) ((this.cells[index] & ~STATE_MASK) | s.ordinal() | BURNED_BIT);
+        this.bits.setState(index, old, s);
+        this.bits.setBurned(index, true);
+        return old;
+    }
+    
+    /**
+     * Updates the counts and the burned and burning squares for the squares that have been burned by burnInPlace().
+     * 
+     * @param burned        indices of the burned squares
+     * @param count         amount of burned squares in the array
+     * @param stateDelta    change of the amount of forest squares in every State, by the ordinal of the State
+     */
+    void mergeBurned(int[] burned, int count, int[] stateDelta) {
+        for (int k = 0; k < count; k++) {
+            int index = burned[k];
+            this.burnedSquares.add(index);
+            this.updateFire(index, this.getState(index));
+        }
+        for (int s = 0; s < stateDelta.length; s++) {
+            this.stateCount[s] += stateDelta[s];
+        }
+        this.stateChanges += count;
+    }
+    
+    /**
+     * Spreads the fire one step in the given direction with the bit masks of the squares, creates them if the
+     * board does not have them yet. Has the same result as GameLogic.burnToDirection() without them.
+     * Spreads bands of rows in parallel if a pool is given, but not while the changes are recorded in a journal.
+     * 
+     * @param d     Direction of the wind
+     * @param pool  ForkJoinPool to spread the rows in parallel or <i>null</i> to spread them one after the other
+     */
+    void spreadFire(Direction d, ForkJoinPool pool) {
+        if (this.bits == null) {
+            this.bits = new BitBoard(this);
+        }
+        assert this.bits.consistent(this);
+        if (pool != null && this.journal == null) {
+            this.bits.spreadParallel(d, this, pool);
+        } else {
+            this.bits.spread(d, this);
+        }
+    }
+    
+    /**
+     * Remembers that the fire engine has performed an action in the current round, so it is reset in roundReset().
+     * Needs to be called every time a fire engine moves, extinguishes or refills.
+     * 
+     * @param engine    FireEngine that has performed an action
+     */
+    public void fireEngineActed(FireEngine engine) {
+        if (this.actedEngines.add(engine) && this.journal != null) {
+            this.journal.record(() -> this.actedEngines.remove(engine));
+        }
+    }
+    
+    /**
+     * Resets the round based attributes of all squares that have burned and of all fire engines that have
+     * performed an action in the current round. All other squares and fire engines have not changed.
+     */
+    public void roundReset() {
+        if (this.journal != null) {
+            this.recordRoundReset();
+        }
+        for (int index : this.burnedSquares) {
+            this.setBurnedThisRound(index, false);
+        }
+        this.burnedSquares.clear();
+        for (FireEngine engine : this.actedEngines) {
+            engine.roundReset();
+        }
+        this.actedEngines.clear();
+        assert this.noneBurnedThisRound();
+    }
+    
+    /**
+     * Records how to revert roundReset(): the squares that have burned and the fire engines that have performed an
+     * action are handed over to the journal and replaced by new collections, the fire engines are saved before they
+     * are reset.
+     */
+    private void recordRoundReset() {
+        List<Integer> burned = this.burnedSquares;
+        Set<FireEngine> acted = this.actedEngines;
+        Map<FireEngine, FireEngine> saved = new HashMap<>();
+        for (FireEngine engine : acted) {
+            saved.put(engine, this.saveEngine(engine));
+        }
+        this.journal.record(() -> {
+            for (int index : burned) {
+                this.flagBurned(index, true);
+            }
+            this.burnedSquares = burned;
+            this.actedEngines = acted;
+            saved.forEach(FireEngine::restore);
+        });
+        this.burnedSquares = new ArrayList<>(burned);
+        this.actedEngines = new HashSet<>(acted);
+    }
+    
+    /**
+     * Number of bytes that encodeRound() writes.
+     * 
+     * @return size of the encoded round in bytes
+     */
+    int encodedRoundSize() {
+        int size = Long.BYTES + Integer.BYTES + this.burnedSquares.size() * Integer.BYTES + Integer.BYTES;
+        for (FireEngine engine : this.engines.values()) {
+            size += 1 + engine.getName().length() + 4 + engine.getExtinguished().size() * Integer.BYTES;
+        }
+        return size;
+    }
+    
+    /**
+     * Writes the state of the current round that a BoardSnapshot does not hold to the buffer: the number of changes
+     * of the States, the squares that have burned and for every fire engine on the board its name, water, action
+     * points, flags if it has done an action and if it has acted in the round and the squares it has extinguished.
+     * The fire engines are written in the order of their names, so equal boards write equal bytes.
+     * 
+     * @param out   ByteBuffer  to write to, needs to have encodedRoundSize() bytes remaining
+     */
+    void encodeRound(ByteBuffer out) {
+        out.putLong(this.stateChanges);
+        out.putInt(this.burnedSquares.size());
+        for (int index : this.burnedSquares) {
+            out.putInt(index);
+        }
+        List<FireEngine> sorted = new ArrayList<>(this.engines.values());
+        sorted.sort(Comparator.comparing(FireEngine::getName));
+        out.putInt(sorted.size());
+        for (FireEngine engine : sorted) {
+            BoardSnapshot.putName(out, engine.getName());
+            int flags = (engine.hasDoneAction() ? DONE_ACTION_FLAG : 0)
+                    | (this.actedEngines.contains(engine) ? ACTED_FLAG : 0);
+            out.put((byte) engine.getRemainingWater()).put((byte) engine.getRemainingActionPoints()).put((byte) flags);
+            List<Square> extinguished = engine.getExtinguished();
+            out.put((byte) extinguished.size());
+            for (Square sq : extinguished) {
+                out.putInt(sq.getIndex());
+            }
+        }
+    }
+    
+    /**
+     * Reads the state of the current round that has been written by encodeRound() into this board, which needs to
+     * be restored from the BoardSnapshot that was saved with it and not changed since.
+     * 
+     * @param in    ByteBuffer  to read from
+     * @throws IllegalArgumentException if the buffer does not hold a valid round of this board
+     */
+    void decodeRound(ByteBuffer in) {
+        this.stateChanges = in.getLong();
+        int burned = in.getInt();
+        if (burned < 0 || burned > this.cells.length) {
+            throw new IllegalArgumentException("invalid number of burned squares: " + burned);
+        }
+        for (int k = 0; k < burned; k++) {
+            int index = this.readIndex(in);
+            if (!this.burnedThisRound(index)) {
+                throw new IllegalArgumentException("square " + index + " has not burned in this round");
+            }
+            this.burnedSquares.add(index);
+        }
+        int amount = in.getInt();
+        if (amount != this.engines.size()) {
+            throw new IllegalArgumentException("invalid number of fire engines: " + amount);
+        }
+        for (int k = 0; k < amount; k++) {
+            String name = BoardSnapshot.getName(in);
+            FireEngine engine = this.engines.get(name);
+            if (engine == null) {
+                throw new IllegalArgumentException("fire engine " + name + " is not on the board");
+            }
+            int water = in.get();
+            int actionPoints = in.get();
+            int flags = in.get();
+            List<Square> extinguished = new ArrayList<>();
+            for (int n = in.get(); n > 0; n--) {
+                extinguished.add(new Square(this, this.readIndex(in)));
+            }
+            FireEngine saved = new FireEngine(name, water, actionPoints, (flags & DONE_ACTION_FLAG) != 0, extinguished);
+            saved.changePosition(engine.getRowPosition(), engine.getColumnPosition());
+            engine.restore(saved);
+            if ((flags & ACTED_FLAG) != 0) {
+                this.actedEngines.add(engine);
+            }
+        }
+        assert this.enginesConsistent();
+    }
+    
+    /**
+     * Reads the index of a square and checks that it is on the board.
+     * 
+     * @param in    ByteBuffer  to read from
+     * @return index of the square
+     */
+    private int readIndex(ByteBuffer in) {
+        int index = in.getInt();
+        if (index < 0 || index >= this.cells.length) {
+            throw new IllegalArgumentException("square outside of the board: " + index);
+        }
+        return index;
+    }
+    
+    /**
+     * Records the current state of the fire engine, so it is restored when the changes are undone.
+     * Needs to be called before a fire engine moves, extinguishes or refills.
+     * 
+     * @param engine    FireEngine that is about to change
+     */
+    void recordEngine(FireEngine engine) {
+        if (this.journal != null) {
+            FireEngine saved = this.saveEngine(engine);
+            this.journal.record(() -> engine.restore(saved));
+        }
+    }
+    
+    /**
+     * Copies the state of the fire engine, including its position.
+     * 
+     * @param engine    FireEngine to copy
+     * @return copy of the fire engine that is not placed on the board
+     */
+    private FireEngine saveEngine(FireEngine engine) {
+        FireEngine saved = new FireEngine(engine, this);
+        saved.changePosition(engine.getRowPosition(), engine.getColumnPosition());
+        return saved;
+    }
+    
+    /**
+     * Sets the journal that all following changes of the board are recorded in.
+     * 
+     * @param journal   Journal to record the changes in or <i>null</i> to stop recording
+     */
+    void setJournal(Journal journal) {
+        this.journal = journal;
+    }
+    
+    /**
+     * Checks that no square of the board has burned in the current round. Only used in assertions.
+     * 
+     * @return {@value true} if no square has burned, otherwise an AssertionError is thrown
+     */
+    private boolean noneBurnedThisRound() {
+        for (int index = 0; index < this.cells.length; index++) {
+            assert !this.burnedThisRound(index) : "square " + index + " has not been reset";
+        }
+        return true;
+    }
+    
+    /**
+     * Getter for the List of all objects on the square with the given index.
+     * Returns an empty unmodifiable List if there are none, so only change it through the other methods.
+     * 
+     * @param index of the square
+     * @return List of the objects on the square
+     */
+    List<BoardObject> getObjects(int index) {
+        List<BoardObject> list = this.objects.get(index);
+        if (list == null) {
+            return Collections.emptyList();
+        }
+        return list;
+    }
+    
+    /**
+     * Adds the object to the list of objects on the square with the given index.
+     * 
+     * @param index of the square
+     * @param o     BoardObject to add
+     */
+    void addObject(int index, BoardObject o) {
+        this.insertObject(index, this.getObjects(index).size(), o);
+    }
+    
+    /**
+     * Inserts the object into the list of objects on the square with the given index at the given position.
+     * 
+     * @param index     of the square
+     * @param position  of the object in the list
+     * @param o         BoardObject to insert
+     */
+    private void insertObject(int index, int position, BoardObject o) {
+        this.objects.computeIfAbsent(index, k -> new ArrayList<>(1)).add(position, o);
+        if (this.journal != null) {
+            this.journal.record(() -> this.removeObject(index, position));
+        }
+        if (o instanceof FireEngine) {
+            FireEngine previous = this.engines.put(o.getName(), (FireEngine) o);
+            assert previous == null : "fire engine " + o.getName() + " is placed twice";
+            this.engineCount[owner(o)]++;
+            if (this.bits != null) {
+                this.bits.setEngines(index, true);
+            }
+        }
+    }
+    
+    /**
+     * Removes the object at the given position in the list of objects on the square with the given index
+     * and drops the entry of the square if it does not hold any objects anymore.
+     * 
+     * @param index     of the square
+     * @param position  of the object in the list
+     */
+    void removeObject(int index, int position) {
+        List<BoardObject> list = this.objects.get(index);
+        BoardObject o = list.remove(position);
+        if (this.journal != null) {
+            this.journal.record(() -> this.insertObject(index, position, o));
+        }
+        if (o instanceof FireEngine) {
+            FireEngine removed = this.engines.remove(o.getName());
+            assert removed == o : "fire engine " + o.getName() + " was not indexed";
+            this.engineCount[owner(o)]--;
+            if (this.bits != null) {
+                this.bits.setEngines(index, list.stream().anyMatch(b -> b instanceof FireEngine));
+            }
+        }
+        if (list.isEmpty()) {
+            this.objects.remove(index);
+        }
     }
     
     /**
@@ -82,7 +845,7 @@ public class Board {
         if (i < 0 || i >= this.rows || j < 0 || j >= this.columns) {
             return null;
         }
-        return this.board[i][j];
+        return new Square(this, this.index(i, j));
     }
     
     /**
@@ -104,19 +867,101 @@ public class Board {
     }
     
     /**
-     * Searches the entire board for a board object with the given name and returns it when found.
-     * Otherwise returns <i>null</i>!
+     * Getter for the number of times a square of the board has changed its State, since the board was created or
+     * since the board it was copied from was created.
+     * 
+     * @return number of changes of the States
+     */
+    public long getStateChanges() {
+        return this.stateChanges;
+    }
+    
+    /**
+     * Getter for the number of squares that have burned in the current round.
+     * 
+     * @return number of burned squares
+     */
+    int countBurnedThisRound() {
+        return this.burnedSquares.size();
+    }
+    
+    /**
+     * Finds the player a fire engine belongs to, the first letter of its name is the id of the player.
+     * 
+     * @param engine    BoardObject that is a fire engine
+     * @return ordinal of the Players-id of the owner
+     */
+    private static int owner(BoardObject engine) {
+        for (Players p : PLAYERS) {
+            if (p.toChar() == engine.getOwner()) {
+                return p.ordinal();
+            }
+        }
+        throw new IllegalArgumentException(engine.getName() + " does not belong to a player");
+    }
+    
+    /**
+     * Getter for all fire engines that are on the board.
+     * 
+     * @return unmodifiable Collection of the fire engines in no particular order
+     */
+    public Collection<FireEngine> getFireEngines() {
+        return Collections.unmodifiableCollection(this.engines.values());
+    }
+    
+    /**
+     * Getter for the amount of fire engines the player with the given id has on the board.
+     * 
+     * @param p Players-id of the player
+     * @return amount of fire engines of the player
+     */
+    public int countFireEngines(Players p) {
+        return this.engineCount[p.ordinal()];
+    }
+    
+    /**
+     * Checks that the index of the fire engines holds exactly the fire engines in the side table of the objects
+     * and that every fire engine is on the square of its position and counted for its player.
+     * Only used in assertions.
+     * 
+     * @return {@value true} if the index is consistent, otherwise an AssertionError is thrown
+     */
+    private boolean enginesConsistent() {
+        int count = 0;
+        int[] perPlayer = new int[this.engineCount.length];
+        for (Map.Entry<Integer, List<BoardObject>> entry : this.objects.entrySet()) {
+            for (BoardObject b : entry.getValue()) {
+                if (b instanceof FireEngine) {
+                    count++;
+                    perPlayer[owner(b)]++;
+                    assert this.engines.get(b.getName()) == b : "fire engine " + b.getName() + " is not indexed";
+                    assert this.index(b.getRowPosition(), b.getColumnPosition()) == entry.getKey()
+                        : "fire engine " + b.getName() + " is not on the square of its position";
+                }
+            }
+        }
+        assert count == this.engines.size() : "index holds fire engines that are not on the board";
+        assert Arrays.equals(perPlayer, this.engineCount) : "fire engines are not counted correctly";
+        return true;
+    }
+    
+    /**
+     * Returns the board object with the given name when found, otherwise returns <i>null</i>!
+     * Fire engines are found in their index, all other objects are searched for on the board.
      * 
      * @param name  String of the identifier the placed object was given
      * @return the BoardObject with the name when found
      */
     public BoardObject getBoardObject(String name) {
-        for (int i = 0; i < this.rows; i++) {
-            for (int j = 0; j < this.columns; j++) {
-                for (BoardObject b : this.board[i][j].getObjects()) {
-                    if (b.getName().equals(name)) {
-                        return b;
-                    }
+        assert this.enginesConsistent();
+        FireEngine engine = this.engines.get(name);
+        if (engine != null) {
+            return engine;
+        }
+        for (List<BoardObject> list : this.objects.values()) {
+            for (BoardObject b : list) {
+                if (b.getName().equals(name)) {
+                    return b;
                 }
             }
         }
@@ -0,0 +1,276 @@
+package edu.kit.informatik.model;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+
+import edu.kit.informatik.model.objects.BoardObject.Kind;
+
+/**
+ * Immutable copy of a board at the start of a game, that new boards can be restored from without parsing the
+ * command line arguments again. Create it by calling Board.snapshot() and restore a board with new Board(snapshot).
+ * <br><br>
+ * It holds the packed squares and burning squares of the board as arrays that are copied in bulk when restoring,
+ * and the kind, name and square of every object on the board. Fire engines are restored with a full tank and all
+ * their action points, as they are at the start of a game.
+ * A snapshot can be written to a ByteBuffer and read from it again, the values are written in the order of the
+ * fields, every array after its length and every name as its length in one byte followed by its ASCII characters.
+ * A snapshot that is read is checked by Board.checkSnapshot(), so a corrupt file cannot create a broken board.
+ * 
+ * @author Julian Dieskau
+ * @version 1.0
+ */
+public final class BoardSnapshot {
+    /** All kinds in the order of their ordinal to read them */
+    private static final Kind[] KINDS = Kind.values();
+    /** Longest name of an object that can be written */
+    private static final int MAX_NAME = 0xFF;
+    
+    /** amount of rows of the board */
+    private final int rows;
+    /** amount of columns of the board */
+    private final int columns;
+    /** packed squares of the board, row by row */
+    private final byte[] cells;
+    /** words of the set of lightly or heavily burning squares */
+    private final long[] fire;
+    /** Amount of forest squares in every State, by the ordinal of the State */
+    private final int[] stateCount;
+    /** Kinds of the objects on the board */
+    private final Kind[] objectKinds;
+    /** Names of the objects on the board, in the same order as the kinds */
+    private final String[] objectNames;
+    /** Indices of the squares the objects are on, in the same order as the kinds */
+    private final int[] objectSquares;
+    
+    /**
+     * Constructor that takes the given arrays over without copying them, only to be called by the Board.
+     * 
+     * @param rows          amount of rows of the board
+     * @param columns       amount of columns of the board
+     * @param cells         packed squares of the board
+     * @param fire          words of the set of burning squares
+     * @param stateCount    amount of forest squares in every State
+     * @param objectKinds   kinds of the objects on the board
+     * @param objectNames   names of the objects on the board
+     * @param objectSquares indices of the squares the objects are on
+     */
+    BoardSnapshot(int rows, int columns, byte[] cells, long[] fire, int[] stateCount, Kind[] objectKinds,
+            String[] objectNames, int[] objectSquares) {
+        this.rows = rows;
+        this.columns = columns;
+        this.cells = cells;
+        this.fire = fire;
+        this.stateCount = stateCount;
+        this.objectKinds = objectKinds;
+        this.objectNames = objectNames;
+        this.objectSquares = objectSquares;
+    }
+    
+    /**
+     * Getter for the amount of rows of the board.
+     * 
+     * @return {@value #rows} amount of rows of the board
+     */
+    public int getRows() {
+        return this.rows;
+    }
+    
+    /**
+     * Getter for the amount of columns of the board.
+     * 
+     * @return {@value #columns} amount of columns of the board
+     */
+    public int getColumns() {
+        return this.columns;
+    }
+    
+    /**
+     * Getter for the packed squares, do not change the array, copy it.
+     * 
+     * @return packed squares of the board
+     */
+    byte[] getCells() {
+        return this.cells;
+    }
+    
+    /**
+     * Getter for the words of the set of burning squares, do not change the array, copy it.
+     * 
+     * @return words of the set of burning squares
+     */
+    long[] getFire() {
+        return this.fire;
+    }
+    
+    /**
+     * Getter for the amount of forest squares in every State, do not change the array, copy it.
+     * 
+     * @return amount of forest squares by the ordinal of the State
+     */
+    int[] getStateCount() {
+        return this.stateCount;
+    }
+    
+    /**
+     * Getter for the amount of objects on the board.
+     * 
+     * @return amount of objects
+     */
+    int countObjects() {
+        return this.objectKinds.length;
+    }
+    
+    /**
+     * Getter for the kind of the object with the given number.
+     * 
+     * @param k number of the object, 0 <= k < countObjects()
+     * @return Kind of the object
+     */
+    Kind getObjectKind(int k) {
+        return this.objectKinds[k];
+    }
+    
+    /**
+     * Getter for the name of the object with the given number.
+     * 
+     * @param k number of the object, 0 <= k < countObjects()
+     * @return name of the object
+     */
+    String getObjectName(int k) {
+        return this.objectNames[k];
+    }
+    
+    /**
+     * Getter for the index of the square the object with the given number is on.
+     * 
+     * @param k number of the object, 0 <= k < countObjects()
+     * @return index of the square
+     */
+    int getObjectSquare(int k) {
+        return this.objectSquares[k];
+    }
+    
+    /**
+     * Number of bytes that encode() writes.
+     * 
+     * @return size of the encoded snapshot in bytes
+     */
+    int encodedSize() {
+        int size = 2 * Integer.BYTES + this.cells.length + Integer.BYTES + this.fire.length * Long.BYTES
+                + Integer.BYTES + this.stateCount.length * Integer.BYTES + Integer.BYTES;
+        for (String name : this.objectNames) {
+            size += 2 + name.length() + Integer.BYTES;
+        }
+        return size;
+    }
+    
+    /**
+     * Writes the snapshot to the buffer, it needs to have encodedSize() bytes remaining.
+     * 
+     * @param out   ByteBuffer  to write to
+     */
+    void encode(ByteBuffer out) {
+        out.putInt(this.rows).putInt(this.columns).put(this.cells);
+        out.putInt(this.fire.length);
+        for (long word : this.fire) {
+            out.putLong(word);
+        }
+        out.putInt(this.stateCount.length);
+        for (int count : this.stateCount) {
+            out.putInt(count);
+        }
+        out.putInt(this.objectKinds.length);
+        for (int k = 0; k < this.objectKinds.length; k++) {
+            out.put((byte) this.objectKinds[k].ordinal());
+            putName(out, this.objectNames[k]);
+            out.putInt(this.objectSquares[k]);
+        }
+    }
+    
+    /**
+     * Reads a snapshot that has been written by encode() from the buffer.
+     * 
+     * @param in    ByteBuffer  to read from
+     * @return the BoardSnapshot
+     * @throws IllegalArgumentException if the buffer does not hold a valid and consistent snapshot
+     * @throws java.nio.BufferUnderflowException if the buffer ends before the snapshot
+     */
+    static BoardSnapshot decode(ByteBuffer in) {
+        int rows = in.getInt();
+        int columns = in.getInt();
+        if (rows < 1 || columns < 1 || (long) rows * columns > in.remaining()) {
+            throw new IllegalArgumentException("not a board of " + rows + " x " + columns + " squares");
+        }
+        byte[] cells = new byte[rows * columns];
+        in.get(cells);
+        long[] fire = new long[length(in)];
+        for (int k = 0; k < fire.length; k++) {
+            fire[k] = in.getLong();
+        }
+        int[] stateCount = new int[length(in)];
+        for (int k = 0; k < stateCount.length; k++) {
+            stateCount[k] = in.getInt();
+        }
+        int amount = length(in);
+        Kind[] kinds = new Kind[amount];
+        String[] names = new String[amount];
+        int[] squares = new int[amount];
+        for (int k = 0; k < amount; k++) {
+            int kind = in.get();
+            if (kind < 0 || kind >= KINDS.length) {
+                throw new IllegalArgumentException("unknown kind of object: " + kind);
+            }
+            kinds[k] = KINDS[kind];
+            names[k] = getName(in);
+            squares[k] = in.getInt();
+            if (squares[k] < 0 || squares[k] >= cells.length) {
+                throw new IllegalArgumentException("object outside of the board: " + names[k]);
+            }
+        }
+        BoardSnapshot snapshot = new BoardSnapshot(rows, columns, cells, fire, stateCount, kinds, names, squares);
+        Board.checkSnapshot(snapshot);
+        return snapshot;
+    }
+    
+    /**
+     * Reads the length of an array and checks that it is not negative and not longer than the rest of the buffer.
+     * 
+     * @param in    ByteBuffer  to read from
+     * @return the length
+     */
+    private static int length(ByteBuffer in) {
+        int length = in.getInt();
+        if (length < 0 || length > in.remaining()) {
+            throw new IllegalArgumentException("invalid length: " + length);
+        }
+        return length;
+    }
+    
+    /**
+     * Writes the name as its length in one byte followed by its ASCII characters.
+     * 
+     * @param out   ByteBuffer  to write to
+     * @param name  String      of at most MAX_NAME characters
+     */
+    static void putName(ByteBuffer out, String name) {
+        if (name.length() > MAX_NAME) {
+            throw new IllegalArgumentException("name too long: " + name);
+        }
+        out.put((byte) name.length());
+        for (int k = 0; k < name.length(); k++) {
+            out.put((byte) name.charAt(k));
+        }
+    }
+    
+    /**
+     * Reads a name that has been written by putName().
+     * 
+     * @param in    ByteBuffer  to read from
+     * @return the name
+     */
+    static String getName(ByteBuffer in) {
+        byte[] name = new byte[in.get() & MAX_NAME];
+        in.get(name);
+        return new String(name, StandardCharsets.US_ASCII);
+    }
+}
@@ -60,6 +60,28 @@ public enum Direction {
         }
     };
     
+    /**
+     * Gives the Direction the wind blows into for the given value of the dice: 2 is north, 3 east, 4 south and
+     * 5 west. The other values have no single direction, 1 spreads the fire into all four and 6 into none.
+     * 
+     * @param dice  int value of the dice
+     * @return the Direction or <i>null</i> if the value has no single direction
+     */
+    public static Direction ofDice(int dice) {
+        switch (dice) {
+            case 2:
+                return N;
+            case 3:
+                return E;
+            case 4:
+                return S;
+            case 5:
+                return W;
+            default:
+                return null;
+        }
+    }
+    
     /**
      * Converts the cardinal direction in a 2-dimensional vector represented by an array of length 2.
      * intArray[0] is the direction for the rows, so 1 (S) is down and -1 is up (N)
@@ -0,0 +1,222 @@
+package edu.kit.informatik.model;
+
+import java.util.SplittableRandom;
+import java.util.concurrent.RecursiveTask;
+
+import edu.kit.informatik.model.Square.State;
+
+/**
+ * Monte Carlo forecast of the fire for the next rounds of a game: every rollout plays the rounds on its own copy
+ * of the Game and rolls the fire with a random dice for every round through Game.rollFire(), as fire-to-roll does,
+ * without any actions of the players in between.
+ * The result is the probability that the game is lost within the first rounds and the expected number of
+ * lightly and heavily burning squares after every round.
+ * <br><br>
+ * The rollouts run in parallel in the common ForkJoinPool, every rollout gets its own random numbers from the
+ * seed and its index, so the same seed always gives the same forecast, no matter how many threads are used.
+ * The game itself is only copied once at the start and not changed.
+ * 
+ * @author Julian Dieskau
+ * @version 1.0
+ */
+public final class FireForecast {
+    /** Number of sides of the dice */
+    private static final int DICE_SIDES = 6;
+    /** Rollouts that a task runs itself instead of splitting them further */
+    private static final int TASK_SIZE = 4;
+    
+    /** Number of rounds of every rollout */
+    private final int rounds;
+    /** Number of rollouts */
+    private final int rollouts;
+    /** Number of rollouts that are lost after the round with the index */
+    private final long[] lost;
+    /** Sum of the burning squares of all rollouts after the round with the index */
+    private final long[] burning;
+    /** Time it took to run all rollouts in nanoseconds */
+    private final long nanos;
+    
+    /**
+     * Constructor for the result of the rollouts.
+     * 
+     * @param rounds    int     number of rounds of every rollout
+     * @param rollouts  int     number of rollouts
+     * @param lost      long[]  lost rollouts after every round
+     * @param burning   long[]  sum of the burning squares after every round
+     * @param nanos     long    time of the rollouts in nanoseconds
+     */
+    private FireForecast(int rounds, int rollouts, long[] lost, long[] burning, long nanos) {
+        this.rounds = rounds;
+        this.rollouts = rollouts;
+        this.lost = lost;
+        this.burning = burning;
+        this.nanos = nanos;
+    }
+    
+    /**
+     * Runs the rollouts from the current state of the game, the next fire-to-roll is the first round.
+     * The game should not be over.
+     * 
+     * @param game      Game    to forecast, is not changed
+     * @param rounds    int     number of rounds to play in every rollout
+     * @param rollouts  int     number of rollouts
+     * @param seed      long    seed of the random dice values
+     * @return FireForecast with the loss probabilities and the expected burning squares
+     */
+    public static FireForecast compute(Game game, int rounds, int rollouts, long seed) {
+        if (rounds < 1 || rollouts < 1) {
+            throw new IllegalArgumentException("at least one round and one rollout are needed");
+        }
+        long start = System.nanoTime();
+        // copy once, so the game may go on while the tasks copy from the start state
+        Game copy = new Game(game);
+        long[] tally = new Rollouts(copy, rounds, seed, 0, rollouts).invoke();
+        long[] lost = new long[rounds];
+        long[] burning = new long[rounds];
+        System.arraycopy(tally, 0, lost, 0, rounds);
+        System.arraycopy(tally, rounds, burning, 0, rounds);
+        return new FireForecast(rounds, rollouts, lost, burning, System.nanoTime() - start);
+    }
+    
+    /**
+     * Getter for the number of rounds of every rollout.
+     * 
+     * @return number of rounds
+     */
+    public int getRounds() {
+        return this.rounds;
+    }
+    
+    /**
+     * Getter for the number of rollouts.
+     * 
+     * @return number of rollouts
+     */
+    public int getRollouts() {
+        return this.rollouts;
+    }
+    
+    /**
+     * Probability that the game is lost within the given number of rounds.
+     * 
+     * @param round int     1 <= round <= getRounds()
+     * @return share of the rollouts that have been lost in the first rounds
+     */
+    public double lossProbability(int round) {
+        return (double) this.lost[round - 1] / this.rollouts;
+    }
+    
+    /**
+     * Expected number of lightly and heavily burning squares after the given number of rounds. A lost game does not
+     * change anymore, so the squares that burned when it was lost are counted for the later rounds.
+     * 
+     * @param round int     1 <= round <= getRounds()
+     * @return average number of burning squares of all rollouts after the round
+     */
+    public double expectedBurning(int round) {
+        return (double) this.burning[round - 1] / this.rollouts;
+    }
+    
+    /**
+     * Getter for the speed of the rollouts, including the copy of the game at the start.
+     * 
+     * @return rollouts per second
+     */
+    public double rolloutsPerSecond() {
+        return this.rollouts * 1e9 / Math.max(this.nanos, 1);
+    }
+    
+    /**
+     * Plays one rollout on a copy of the game and adds its results to the tally.
+     * 
+     * @param start     Game                start state, only read
+     * @param rounds    int                 number of rounds to play
+     * @param random    SplittableRandom    dice of the rollout
+     * @param tally     long[]              lost rollouts and then the burning squares for every round
+     */
+    private static void rollout(Game start, int rounds, SplittableRandom random, long[] tally) {
+        Game game = new Game(start);
+        Board board = game.getBoard();
+        for (int r = 0; r < rounds; r++) {
+            if (!game.isOver()) {
+                playRound(game, random.nextInt(DICE_SIDES) + 1);
+            }
+            if (game.isOver()) {
+                tally[r]++;
+            }
+            tally[rounds + r] += board.countForestSquares(State.SPARKING) + board.countForestSquares(State.BURNING);
+        }
+    }
+    
+    /**
+     * Plays one round of the fire like fire-to-roll does, the round based attributes are reset before as they are
+     * in the game when the players have finished their round.
+     * 
+     * @param game  Game    of the rollout
+     * @param dice  int     value of the dice
+     */
+    private static void playRound(Game game, int dice) {
+        game.getBoard().roundReset();
+        game.rollFire(dice);
+        game.startNextRound();
+    }
+    
+    /**
+     * Fork-join task for a range of rollouts, splits it in halves until it is small enough to run it.
+     * The result is one array with the lost rollouts for every round followed by the sum of the burning squares
+     * for every round.
+     * 
+     * @author Julian Dieskau
+     * @version 1.0
+     */
+    private static final class Rollouts extends RecursiveTask<long[]> {
+        private static final long serialVersionUID = 1L;
+        /** Start state of the game, only read */
+        private final transient Game game;
+        /** Number of rounds of every rollout */
+        private final int rounds;
+        /** Seed of the forecast */
+        private final long seed;
+        /** Index of the first rollout of the range */
+        private final int from;
+        /** Index after the last rollout of the range */
+        private final int to;
+        
+        /**
+         * Constructor for the task of the rollouts from index from to index to.
+         * 
+         * @param game      Game    start state
+         * @param rounds    int     number of rounds of every rollout
+         * @param seed      long    seed of the forecast
+         * @param from      int     index of the first rollout
+         * @param to        int     index after the last rollout
+         */
+        Rollouts(Game game, int rounds, long seed, int from, int to) {
+            this.game = game;
+            this.rounds = rounds;
+            this.seed = seed;
+            this.from = from;
+            this.to = to;
+        }
+        
+        @Override
+        protected long[] compute() {
+            if (this.to - this.from <= TASK_SIZE) {
+                long[] tally = new long[2 * this.rounds];
+                for (int k = this.from; k < this.to; k++) {
+                    rollout(this.game, this.rounds, new SplittableRandom(this.seed + k), tally);
+                }
+                return tally;
+            }
+            int middle = (this.from + this.to) >>> 1;
+            Rollouts left = new Rollouts(this.game, this.rounds, this.seed, this.from, middle);
+            left.fork();
+            long[] tally = new Rollouts(this.game, this.rounds, this.seed, middle, this.to).compute();
+            long[] other = left.join();
+            for (int i = 0; i < tally.length; i++) {
+                tally[i] += other[i];
+            }
+            return tally;
+        }
+    }
+}
@@ -0,0 +1,260 @@
+package edu.kit.informatik.model;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * Java Flight Recorder events of the game, so sessions can be profiled with the standard tools: one event for every
+ * executed command, for every phase of rolling the fire, for resetting the round and for parsing the board.
+ * <br><br>
+ * An event is created, started before and finished after what it measures. The values of the board are only read
+ * when the event is enabled, and a disabled event is never committed, so while no recording runs, the events cost
+ * nothing but their creation, which the compiler removes.
+ * 
+ * @author Julian Dieskau
+ * @version 1.0
+ */
+public final class FlightEvents {
+    /** Category of all events of the game */
+    private static final String CATEGORY = "Fire Breaker";
+    
+    /**
+     * Utility class, therefore not wanted.
+     */
+    private FlightEvents() {
+        throw new IllegalAccessError("Do not try to instantiate this class!");
+    }
+    
+    /**
+     * Event about a change of the board: its size, the number of times a square changed its State and the number of
+     * fire engines that burned while the event lasted.
+     * 
+     * @author Julian Dieskau
+     * @version 1.0
+     */
+    @Category(CATEGORY)
+    public abstract static class BoardEvent extends Event {
+        /** Number of rows of the board */
+        @Label("Rows")
+        int rows;
+        /** Number of columns of the board */
+        @Label("Columns")
+        int columns;
+        /** Number of times a square changed its State */
+        @Label("Changed Squares")
+        @Description("Number of times a square of the board changed its state")
+        long changedSquares;
+        /** Number of fire engines that burned */
+        @Label("Burned Fire Engines")
+        int burnedEngines;
+        /** Changes of the States of the board at the start, not recorded */
+        transient long changesAtStart;
+        /** Fire engines on the board at the start, not recorded */
+        transient int enginesAtStart;
+        
+        /**
+         * Starts the event and remembers the changes and fire engines of the board if it is enabled.
+         * 
+         * @param board Board   that is about to change
+         */
+        public void start(Board board) {
+            this.begin();
+            if (this.isEnabled()) {
+                this.changesAtStart = board.getStateChanges();
+                this.enginesAtStart = board.getFireEngines().size();
+            }
+        }
+        
+        /**
+         * Ends the event and commits it with the size and the changes of the board if it should be recorded.
+         * 
+         * @param board Board   that has changed
+         */
+        public void finish(Board board) {
+            this.end();
+            if (this.shouldCommit()) {
+                this.rows = board.getRows();
+                this.columns = board.getColumns();
+                this.changedSquares = board.getStateChanges() - this.changesAtStart;
+                this.burnedEngines = Math.max(this.enginesAtStart - board.getFireEngines().size(), 0);
+                this.commit();
+            }
+        }
+    }
+    
+    /**
+     * Event of the execution of a command.
+     * 
+     * @author Julian Dieskau
+     * @version 1.0
+     */
+    @Name("edu.kit.informatik.Command")
+    @Label("Command")
+    @Description("Execution of a command of the game")
+    public static final class CommandEvent extends BoardEvent {
+        /** Name of the command */
+        @Label("Command")
+        private final String command;
+        /** Type of the Result of the command */
+        @Label("Result")
+        private String result;
+        
+        /**
+         * Constructor for the event of the command with the given name.
+         * 
+         * @param command   String  name of the command
+         */
+        public CommandEvent(String command) {
+            this.command = command;
+        }
+        
+        /**
+         * Setter for the Type of the Result of the command.
+         * 
+         * @param result    String  name of the Type of the Result
+         */
+        public void setResult(String result) {
+            this.result = result;
+        }
+    }
+    
+    /**
+     * Event of spreading the fire into one direction.
+     * 
+     * @author Julian Dieskau
+     * @version 1.0
+     */
+    @Name("edu.kit.informatik.FireSpread")
+    @Label("Fire Spread")
+    @Description("Spreading of the fire into one direction while rolling the fire")
+    static final class SpreadEvent extends BoardEvent {
+        /** Direction of the wind */
+        @Label("Direction")
+        private final String direction;
+        
+        /**
+         * Constructor for the event of spreading the fire into the given direction.
+         * 
+         * @param d Direction   of the wind
+         */
+        SpreadEvent(Direction d) {
+            this.direction = d.name();
+        }
+    }
+    
+    /**
+     * Event of eliminating the players without fire engines after the fire has spread.
+     * 
+     * @author Julian Dieskau
+     * @version 1.0
+     */
+    @Name("edu.kit.informatik.EliminatePlayers")
+    @Label("Eliminate Players")
+    @Description("Elimination of the players without fire engines while rolling the fire")
+    static final class EliminationEvent extends BoardEvent {
+        /** Type of the elimination */
+        @Label("Elimination")
+        private String elimination;
+        
+        /**
+         * Setter for the type of the elimination.
+         * 
+         * @param elimination   String  name of the EliminationType
+         */
+        void setElimination(String elimination) {
+            this.elimination = elimination;
+        }
+    }
+    
+    /**
+     * Event of resetting the squares that have burned and the fire engines that have acted in the round.
+     * 
+     * @author Julian Dieskau
+     * @version 1.0
+     */
+    @Name("edu.kit.informatik.RoundReset")
+    @Label("Round Reset")
+    @Description("Reset of the squares and fire engines at the end of a round")
+    static final class RoundResetEvent extends BoardEvent {
+        /** Number of squares that had burned in the round */
+        @Label("Reset Squares")
+        private int resetSquares;
+        
+        /**
+         * Setter for the number of squares that had burned in the round.
+         * 
+         * @param resetSquares  int number of burned squares
+         */
+        void setResetSquares(int resetSquares) {
+            this.resetSquares = resetSquares;
+        }
+    }
+    
+    /**
+     * Event of starting the next round of the players after the fire has been rolled.
+     * 
+     * @author Julian Dieskau
+     * @version 1.0
+     */
+    @Name("edu.kit.informatik.StartNextRound")
+    @Label("Start Next Round")
+    @Description("Start of the next round of the players after rolling the fire")
+    @Category(CATEGORY)
+    static final class NextRoundEvent extends Event {
+        /** Number of players that are still in the game */
+        @Label("Players")
+        private final int players;
+        
+        /**
+         * Constructor for the event of the next round with the given number of players.
+         * 
+         * @param players   int number of players that are still in the game
+         */
+        NextRoundEvent(int players) {
+            this.players = players;
+        }
+    }
+    
+    /**
+     * Event of parsing the board from the command line arguments.
+     * 
+     * @author Julian Dieskau
+     * @version 1.0
+     */
+    @Name("edu.kit.informatik.ParseBoard")
+    @Label("Parse Board")
+    @Description("Parsing of the board from the command line arguments")
+    @Category(CATEGORY)
+    public static final class ParseEvent extends Event {
+        /** Number of rows of the board, 0 if they could not be parsed */
+        @Label("Rows")
+        private int rows;
+        /** Number of columns of the board, 0 if they could not be parsed */
+        @Label("Columns")
+        private int columns;
+        /** Number of characters of the argument */
+        @Label("Length")
+        private int length;
+        /** Type of the parsed Arguments */
+        @Label("Result")
+        private String result;
+        
+        /**
+         * Sets the values of the parsed board.
+         * 
+         * @param rows      int     number of rows
+         * @param columns   int     number of columns
+         * @param length    int     number of characters of the argument
+         * @param result    String  name of the ArgumentType
+         */
+        public void set(int rows, int columns, int length, String result) {
+            this.rows = rows;
+            this.columns = columns;
+            this.length = length;
+            this.result = result;
+        }
+    }
+}
@@ -1,5 +1,6 @@
 package edu.kit.informatik.model;
 
+import java.nio.ByteBuffer;
 import java.util.List;
 
 import edu.kit.informatik.model.Square.State;
@@ -33,7 +34,31 @@ public class Game {
     private boolean over = false;
     private Board board;
     private List<BoardObject> fireStations;
-        
+    /** Records the changes to undo them, <i>null</i> until mark() is called the first time */
+    private Journal journal;
+    /** Log that every accepted change of the game is appended to, <i>null</i> if the game is not logged */
+    private GameLog log;
+    
+    // Constructors
+    /**
+     * Constructor for a new game, needs to be initialized with a board by calling init() before it can be used.
+     */
+    public Game() {
+    }
+    
+    /**
+     * Copy-constructor that copies the board with all objects on it and the players, so the copy can go on
+     * with different commands than the other game. The copy does not record its changes until mark() is called
+     * and is not logged.
+     * 
+     * @param other Game to copy
+     */
+    public Game(Game other) {
+        this.pc = new PlayerController(other.pc);
+        this.over = other.over;
+        this.init(new Board(other.board));
+    }
+    
     // Private methods
     /**
      * Fills the Lists of fireEngines so that we are able to access them throughout the game very quickly and
@@ -91,27 +116,6 @@ public class Game {
         return logic.checkForRefill(e, this.board);
     }
     
-    /**
-     * Takes the int value of a dice and returns the corresponding Direction.
-     * If the given value is not in the valid range of 2 through to 5 null will be returned!
-     * 
-     * @param dice element{1 - 6}
-     */
-    private Direction diceToDirection(int dice) {
-        switch (dice) {
-            case 2:
-                return Direction.N;
-            case 3:
-                return Direction.E;
-            case 4:
-                return Direction.S;
-            case 5:
-                return Direction.W;
-            default:
-                return null;
-        }
-    }
-    
     /**
      * Uses the "intArray" method of the Direction to call the correct neighboring Squares of all heavily burning ones.
      * Calls their burnSquare() method which automatically checks if burned before in that round so that only happens
@@ -120,7 +124,10 @@ public class Game {
      * @param d Direction: N, E, S, W are possible
      */
     private void burnToDirection(Direction d) {
+        FlightEvents.SpreadEvent event = new FlightEvents.SpreadEvent(d);
+        event.start(this.board);
         logic.burnToDirection(d, this.board);
+        event.finish(this.board);
     }
     
     /**
@@ -131,8 +138,13 @@ public class Game {
      *      if it was the first player or if the game is over after this.
      */
     private EliminationType eliminatePlayers() {
+        FlightEvents.EliminationEvent event = new FlightEvents.EliminationEvent();
+        event.start(this.board);
+        EliminationType type = logic.eliminatePlayers(this.board, this.pc);
+        event.setElimination(type.name());
+        event.finish(this.board);
         // return the result of removing player(s)
-        return logic.eliminatePlayers(this.board, this.pc);
+        return type;
     }
     
     /**
@@ -140,7 +152,11 @@ public class Game {
      * => Resets all fireEngines and all Squares
      */
     private void roundReset() {
+        FlightEvents.RoundResetEvent event = new FlightEvents.RoundResetEvent();
+        event.setResetSquares(this.board.countBurnedThisRound());
+        event.start(this.board);
         logic.roundReset(this.board);
+        event.finish(this.board);
     }
     
     /**
@@ -152,13 +168,87 @@ public class Game {
         return logic.playersWon(this.board);
     }
     
+    /**
+     * Records the state of the players, so it is restored when the changes are undone.
+     * Needs to be called before anything of the PlayerController or one of the Players changes.
+     */
+    private void recordPlayers() {
+        if (this.journal != null) {
+            PlayerController saved = new PlayerController(this.pc);
+            this.journal.record(() -> this.pc = saved);
+        }
+    }
+    
+    /**
+     * Getter for the number of changes that have been recorded so far, to drop the ones of an action that fails
+     * after it has recorded them.
+     * 
+     * @return size of the journal or 0 if the game does not record its changes
+     */
+    private int recorded() {
+        return this.journal == null ? 0 : this.journal.size();
+    }
+    
+    /**
+     * Drops the changes recorded by an action that has failed without changing anything, so the journal holds
+     * only the accepted changes, like the log, and the marks of a replayed game are the same as the live ones.
+     * 
+     * @param recorded  number of changes that were recorded before the action
+     */
+    private void dropRecorded(int recorded) {
+        if (this.journal != null) {
+            this.journal.undoTo(recorded);
+        }
+    }
+    
     /**
      * End the game.
      */
     private void endGame() {
+        if (this.journal != null) {
+            boolean wasOver = this.over;
+            this.journal.record(() -> this.over = wasOver);
+        }
         this.over = true;
     }
     
+    /**
+     * Number of bytes that encode() writes.
+     * 
+     * @return size of the encoded game without its board in bytes
+     */
+    int encodedSize() {
+        return 1 + this.pc.encodedSize();
+    }
+    
+    /**
+     * Writes if the game is over and the players to the buffer. The board is written on its own, by
+     * Board.copySquares() and Board.encodeRound().
+     * 
+     * @param out   ByteBuffer  to write to, needs to have encodedSize() bytes remaining
+     */
+    void encode(ByteBuffer out) {
+        out.put((byte) (this.over ? 1 : 0));
+        this.pc.encode(out);
+    }
+    
+    /**
+     * Reads a game that has been written by encode() from the buffer and initializes it with the given board.
+     * The game does not record its changes until mark() is called and is not logged.
+     * 
+     * @param in    ByteBuffer  to read from
+     * @param board Board       of the game, restored and read before the game
+     * @return the Game
+     * @throws IllegalArgumentException if the buffer does not hold a valid game
+     */
+    static Game decode(ByteBuffer in, Board board) {
+        Game game = new Game();
+        game.over = in.get() != 0;
+        game.pc = PlayerController.decode(in);
+        game.init(board);
+        return game;
+    }
+    
     // Getter
     /**
      * Getter for the current Player that is in turn.
@@ -199,24 +289,68 @@ public class Game {
     
     // Public methods
     /**
-     * Initializes the Game by taking the parsed list with m * n elements and putting it row for row (!) into the
-     * array of the Board-object that consists of m rows and n columns. 
+     * Initializes the Game with the Board that was parsed from the command line arguments.
      * 
-     * @param m     Amount of rows of the board to initialize
-     * @param n     Amount of columns of the board to initialize
-     * @param list  of all Squares in order from left to right and top to bottom to fill on the board
+     * @param board Board with all Squares and the objects on them set
      */
-    public void init(int m, int n, List<Square> list) {
-        this.board = new Board(m, n, list);
+    public void init(Board board) {
+        this.board = board;
         this.fillObjectLists();
     }
     
+    /**
+     * Marks the current state of the game to return to it with undo(). Starts recording all changes of the game
+     * when it is called the first time, a game that is never marked does not record anything.
+     * 
+     * @return mark of the current state
+     */
+    public int mark() {
+        if (this.journal == null) {
+            this.journal = new Journal();
+            this.board.setJournal(this.journal);
+        }
+        if (this.log != null) {
+            this.log.mark();
+        }
+        return this.journal.size();
+    }
+    
+    /**
+     * Reverts all changes of the commands since the state was marked, in the reverse order they were made.
+     * Takes time proportional to the number of changes, marks of states after the given one are not valid
+     * anymore.
+     * 
+     * @param mark  returned by mark() for the state to return to
+     */
+    public void undo(int mark) {
+        if (this.journal == null || mark < 0 || mark > this.journal.size()) {
+            throw new IllegalArgumentException("not a mark of this game: " + mark);
+        }
+        this.journal.undoTo(mark);
+        if (this.log != null) {
+            this.log.undo(mark);
+        }
+    }
+    
+    /**
+     * Appends every accepted change of the game from now on to the log, so the game can be replayed from it.
+     * 
+     * @param log   GameLog to append to or <i>null</i> to stop logging
+     */
+    public void setLog(GameLog log) {
+        this.log = log;
+    }
+    
     /**
      * Calls the PlayerController pc to cycle the Players and store which one is in turn.
      * 
      * @return next Player that is in the row
      */
     public Player next() {
+        if (this.log != null) {
+            this.log.turn();
+        }
+        this.recordPlayers();
         NextReturn next = this.pc.next();
         if (next.getType() == Next.RESET) {
             this.roundReset();
@@ -236,7 +370,6 @@ public class Game {
     public Result buyFireEngine(int i, int j) {
         // FIRST check if the positions i and j are surrounding the players fireStation
         String p = this.currentPlayer().getID().toString();
-        String id = this.currentPlayer().getNextEngineID();
         for (BoardObject b : this.fireStations) {
             if (b.getName().equals(p)) {
                 if (!this.checkIfSurrounding(b, i, j, SurroundingParam.DIAGONAL)) {
@@ -258,15 +391,33 @@ public class Game {
         }
         
         // FOURTH place the engine at the specified position and tell the engine where it's at
-        FireEngine b = new FireEngine(id);
-        if (sq.placeObject(b)) {
-            b.changePosition(i, j);
-            this.pc.currentPlayer().pay(Constants.FIRE_ENGINE_COST);
-            this.currentPlayer().incrementEngineID();
-            return new Result(String.valueOf(currentPlayer().reputation()), Type.SUCCESS);
-        } else {
+        if (!this.placeFireEngine(i, j)) {
             return new Result(ErrorMessages.SQUARE_NO_FOREST, Type.FAILURE);
         }
+        return Result.number(currentPlayer().reputation());
+    }
+    
+    /**
+     * Places a new fire engine of the current player at the position and lets the player pay for it.
+     * Does not check if the player may buy it there, the replay of a log calls it for buys that have been accepted.
+     * 
+     * @param i row-position of the fire engine
+     * @param j column-position of the fire engine
+     * @return <i>true</i> if the fire engine has been placed, <i>false</i> if the square is not a forest
+     */
+    boolean placeFireEngine(int i, int j) {
+        FireEngine b = new FireEngine(this.currentPlayer().getNextEngineID());
+        if (!this.board.getSquareAtPosition(i, j).placeObject(b)) {
+            return false;
+        }
+        b.changePosition(i, j);
+        if (this.log != null) {
+            this.log.buy(i, j);
+        }
+        this.recordPlayers();
+        this.pc.currentPlayer().pay(Constants.FIRE_ENGINE_COST);
+        this.currentPlayer().incrementEngineID();
+        return true;
     }
     
     /**
@@ -280,7 +431,7 @@ public class Game {
      */
     public Result extinguish(String engineID, int i, int j) {
         // test if the engineID is valid
-        if (!engineID.matches(Patterns.IS_FIRE_ENGINE)) {
+        if (!Patterns.isFireEngine(engineID)) {
             return new Result(ErrorMessages.FIRE_ENGINE_ID_INVALID, Type.FAILURE);
         }
         // test if a fire engine with given id exists
@@ -290,8 +441,7 @@ public class Game {
             return new Result(String.format(ErrorMessages.FIRE_ENGINE_NONEXISTENT, engineID), Type.FAILURE);
         } 
         // test if the found fire engine belongs to the current player
-        char[] chars = engineID.toCharArray();
-        if (!String.valueOf(chars[0]).matches(this.pc.currentPlayer().getID().toString())) {
+        if (engineID.charAt(0) != this.pc.currentPlayer().getID().toChar()) {
             return new Result(ErrorMessages.INVALID_ENGINE_ACCESS, Type.FAILURE);
         }
         // test if i and j are valid
@@ -309,20 +459,48 @@ public class Game {
         }
         
         // test if the engine can extinguish, if yes extinguish with the square too
+        Result r = this.extinguishSquare(engine, i, j);
+        if (r.getType().equals(Type.FAILURE)) {
+            return r;
+        }
+        // the players have won and the game is over
+        if (this.over) {
+            return new Result(Messages.PLAYERS_WON, Type.SUCCESS);
+        }
+        return Result.prefixed(sq.printSquare(), engine.getRemainingActionPoints());
+    }
+    
+    /**
+     * Extinguishes the square with the fire engine if it has water and action points left, gives the salary to the
+     * current player and ends the game if the players have won. Does not check if the fire engine may extinguish
+     * the square, the replay of a log calls it for extinguishings that have been accepted.
+     * 
+     * @param engine    FireEngine  that extinguishes
+     * @param i         row-position of the square
+     * @param j         column-position of the square
+     * @return Result.PASSED if the square has been extinguished, otherwise why the fire engine cannot do that
+     */
+    Result extinguishSquare(FireEngine engine, int i, int j) {
+        Square sq = this.board.getSquareAtPosition(i, j);
+        int recorded = this.recorded();
+        this.board.recordEngine(engine);
         Result r = engine.extinguishFire(sq);
-        if (r.getType().equals(Type.SUCCESS)) {
-            boolean giveRevenue = sq.extinguish();
-            if (giveRevenue) {
-                this.pc.currentPlayer().obtainSalary(Constants.REPUTATION_SALARY);
-            }
-            String actionPoints = "," + String.valueOf(engine.getRemainingActionPoints());
-            
-            // check if the players have won and end the game 
-            if (this.playersWon()) {
-                this.endGame();
-                return new Result(Messages.PLAYERS_WON, Type.SUCCESS);
-            }
-            return new Result(sq.printSquare() + actionPoints, Type.SUCCESS);
+        if (r.getType().equals(Type.FAILURE)) {
+            this.dropRecorded(recorded);
+            return r;
+        }
+        if (this.log != null) {
+            this.log.extinguish(engine.getName(), i, j);
+        }
+        this.board.fireEngineActed(engine);
+        boolean giveRevenue = sq.extinguish();
+        if (giveRevenue) {
+            this.recordPlayers();
+            this.pc.currentPlayer().obtainSalary(Constants.REPUTATION_SALARY);
+        }
+        // check if the players have won and end the game 
+        if (this.playersWon()) {
+            this.endGame();
         }
         return r;
     }
@@ -345,7 +523,7 @@ public class Game {
         }
         
         // check if the fire engine with the given ID exists
-        if (!id.matches(Patterns.IS_FIRE_ENGINE)) {
+        if (!Patterns.isFireEngine(id)) {
             return new Result(ErrorMessages.FIRE_ENGINE_ID_INVALID, Type.FAILURE);
         }
         // cast is possible, cause the id of the fire engine is valid
@@ -354,8 +532,7 @@ public class Game {
             return new Result(String.format(ErrorMessages.FIRE_ENGINE_NONEXISTENT, id), Type.FAILURE);
         } 
         // test if the found fire engine belongs to the current player
-        char[] chars = id.toCharArray();
-        if (!String.valueOf(chars[0]).matches(this.pc.currentPlayer().getID().toString())) {
+        if (id.charAt(0) != this.pc.currentPlayer().getID().toChar()) {
             return new Result(ErrorMessages.INVALID_ENGINE_ACCESS, Type.FAILURE);
         }
         // check if the positions are on a line with the engine
@@ -380,22 +557,46 @@ public class Game {
             return new Result(ErrorMessages.NO_ACTION_POINTS, Type.FAILURE);
         }
         
+        String error = this.relocateFireEngine(engine, iPos, jPos);
+        if (error != null) {
+            return new Result(error, Type.FAILURE);
+        }
+        return Result.OK;
+    }
+    
+    /**
+     * Moves the fire engine to the position if it has not done an action in this round. Does not check if the
+     * fire engine may move there, the replay of a log calls it for moves that have been accepted.
+     * 
+     * @param engine    FireEngine  to move
+     * @param iPos      new row position
+     * @param jPos      new column position
+     * @return <i>null</i> if the fire engine has moved, otherwise the error message why it could not
+     */
+    String relocateFireEngine(FireEngine engine, int iPos, int jPos) {
         // call move() on the fire engine and return when it could not do that
+        int recorded = this.recorded();
+        this.board.recordEngine(engine);
         if (!engine.move()) {
-            return new Result(ErrorMessages.ALREADY_DONE_ACTION, Type.FAILURE);
+            this.dropRecorded(recorded);
+            return ErrorMessages.ALREADY_DONE_ACTION;
         }
+        this.board.fireEngineActed(engine);
         // remove the fire engine from the prior position
         int priorRow = engine.getRowPosition();
         int priorColumn = engine.getColumnPosition();
         Square priorSquare = this.board.getSquareAtPosition(priorRow, priorColumn);
-        if (!priorSquare.removeObject(id)) {
-            return new Result(ErrorMessages.MOVE_UNABLE, Type.FAILURE);
+        if (!priorSquare.removeObject(engine.getName())) {
+            return ErrorMessages.MOVE_UNABLE;
         }
         // put the engine on the new square on the board
         Square newSquare = this.board.getSquareAtPosition(iPos, jPos);
         newSquare.placeObject(engine);
         engine.changePosition(iPos, jPos);
-        return new Result("OK", Type.SUCCESS);
+        if (this.log != null) {
+            this.log.move(engine.getName(), iPos, jPos);
+        }
+        return null;
     }
     
     /**
@@ -408,7 +609,7 @@ public class Game {
      */
     public Result refillFireEngine(String id) {
         // check if id is existing and to the current player
-        if (!id.matches(Patterns.IS_FIRE_ENGINE)) {
+        if (!Patterns.isFireEngine(id)) {
             return new Result(ErrorMessages.FIRE_ENGINE_ID_INVALID, Type.FAILURE);
         }
         // test if a fire engine with given id exists
@@ -418,8 +619,7 @@ public class Game {
             return new Result(String.format(ErrorMessages.FIRE_ENGINE_NONEXISTENT, id), Type.FAILURE);
         } 
         // test if the found fire engine belongs to the current player
-        char[] chars = id.toCharArray();
-        if (!String.valueOf(chars[0]).matches(this.pc.currentPlayer().getID().toString())) {
+        if (id.charAt(0) != this.pc.currentPlayer().getID().toChar()) {
             return new Result(ErrorMessages.INVALID_ENGINE_ACCESS, Type.FAILURE);
         }
         // test if next to lake or fire station
@@ -427,10 +627,31 @@ public class Game {
             return new Result(ErrorMessages.NO_NEAR_REFILL, Type.FAILURE);
         }
         // refill the fire engine
-        if (!engine.refillTank()) {
+        if (!this.refillTank(engine)) {
             return new Result(ErrorMessages.CANNOT_REFILL, Type.FAILURE);
         }
-        return new Result(String.valueOf(engine.getRemainingActionPoints()), Type.SUCCESS);
+        return Result.number(engine.getRemainingActionPoints());
+    }
+    
+    /**
+     * Refills the tank of the fire engine if it is not full and the fire engine has action points left. Does not
+     * check if a lake or fire station is near, the replay of a log calls it for refills that have been accepted.
+     * 
+     * @param engine    FireEngine  to refill
+     * @return <i>true</i> if the tank has been refilled
+     */
+    boolean refillTank(FireEngine engine) {
+        int recorded = this.recorded();
+        this.board.recordEngine(engine);
+        if (!engine.refillTank()) {
+            this.dropRecorded(recorded);
+            return false;
+        }
+        this.board.fireEngineActed(engine);
+        if (this.log != null) {
+            this.log.refill(engine.getName());
+        }
+        return true;
     }
     
     /**
@@ -441,40 +662,67 @@ public class Game {
      * @return Result of the method -> "OK" or "lose" as message
      */
     public Result rollFire(int dice) {
-        // reset the round variables of the fire engines and squares if the game is not over
-        //this.roundReset();
+        EliminationType type = this.spreadFire(dice);
+        if (type == EliminationType.FIRST || type == EliminationType.SECONDARY) {
+            return new Result(this.pc.currentPlayer().getID().toString(), Type.SUCCESS);
+        } else if (type == EliminationType.LOSE) {
+            return new Result(Messages.GAME_OVER, Type.SUCCESS);
+        }
+        return Result.OK;
+    }
+    
+    /**
+     * Spreads the fire like rollFire(), eliminates the players and ends the game or starts the next round of the
+     * PlayerController, without creating the Result. The replay of a log calls it directly.
+     * 
+     * @param dice expecting an integer d with 1 <= d <= 6!
+     * @return EliminationType of the players, NONE for 6
+     */
+    EliminationType spreadFire(int dice) {
+        // FireToRoll starts the next round of the PlayerController afterwards, so record it in any case
+        this.recordPlayers();
+        if (this.log != null) {
+            this.log.roll(dice);
+        }
         // 6 corresponds to "no wind" so nothing shall happen:
         if (dice == 6) {
-            return new Result("OK", Type.SUCCESS);
+            return EliminationType.NONE;
         }
         // part for dice == 1,2,3,4,5
         // call a method that converts 2,3,4,5 in a Direction with its 2-dimensional intArray direction
         // exclude direction == 1 for this:
         if (dice != 1) {
-            Direction d = this.diceToDirection(dice);
+            Direction d = Direction.ofDice(dice);
             this.burnToDirection(d);
         }
         // if dice == 1 call the same methods as for 2,3,4,5 but for all of them:
         if (dice == 1) {
             for (int f = 2; f <= 5; f++) {
-                Direction d = this.diceToDirection(f);
+                Direction d = Direction.ofDice(f);
                 this.burnToDirection(d);
             }
         }
         // check if a player shall be eliminated
         EliminationType type = this.eliminatePlayers();
-        // check the type for the Result
-        String message = Messages.FIRE_ROLLED_NORMALLY;
-        if (type == EliminationType.FIRST || type == EliminationType.SECONDARY) {
-            message = this.pc.currentPlayer().getID().toString();
-        } else if (type == EliminationType.LOSE) {
-            // end the game and return the message "lose"
-            message = Messages.GAME_OVER;
+        if (type == EliminationType.LOSE) {
+            // end the game, rollFire() returns the message "lose"
             this.endGame();
-            return new Result(message, Type.SUCCESS);
+            return type;
         }
         // start the next round in the playercontroller
         this.pc.startNextRound();
-        return new Result(message, Type.SUCCESS);
+        return type;
+    }
+    
+    /**
+     * Starts the next round of the players after the fire has been rolled, so the commands of the round can be
+     * called again.
+     */
+    public void startNextRound() {
+        this.recordPlayers();
+        if (this.log != null) {
+            this.log.nextRound();
+        }
+        this.pc.startNextRound();
     }
 }
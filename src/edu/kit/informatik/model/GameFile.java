@@ -0,0 +1,158 @@
+package edu.kit.informatik.model;
+
+import java.io.IOException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * Saves a whole game to a file and loads it again, also in the middle of a round: the squares and objects of the
+ * board, the state of the current round of the board with the water and action points of the fire engines, and the
+ * players with their order and the state of their round.
+ * <br><br>
+ * A file starts with a magic number and the version of the format, followed by the BoardSnapshot of the board, the
+ * round of the board and the game, as they are written by BoardSnapshot.encode(), Board.encodeRound() and
+ * Game.encode(). The file is written and read as a whole through one buffer, so the packed squares are copied in
+ * bulk. The changes that could be undone and the log of the game are not saved, a loaded game starts without them.
+ * The GameLog embeds the same bytes when a game is loaded, so the replay can go on with it.
+ * 
+ * @author Julian Dieskau
+ * @version 1.0
+ */
+public final class GameFile {
+    /** First four bytes of every saved game, "FBSV" */
+    private static final int MAGIC = 0x46425356;
+    /** Version of the format, needs to be increased when the format changes */
+    private static final short VERSION = 1;
+    /** Size of the magic number and the version in bytes */
+    private static final int HEADER_SIZE = Integer.BYTES + Short.BYTES;
+    
+    /**
+     * Utility class, therefore not wanted.
+     */
+    private GameFile() {
+        throw new IllegalAccessError("Do not try to instantiate this class!");
+    }
+    
+    /**
+     * Saves the game to the file, replaces the file if it exists.
+     * 
+     * @param game  Game    to save
+     * @param path  Path    of the file
+     * @throws IOException if the file cannot be written
+     */
+    public static void save(Game game, Path path) throws IOException {
+        ByteBuffer out = encode(game);
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                StandardOpenOption.TRUNCATE_EXISTING)) {
+            while (out.hasRemaining()) {
+                channel.write(out);
+            }
+        }
+    }
+    
+    /**
+     * Encodes the whole game with the header of the file: the squares of the board, the round of the board and the
+     * players.
+     * 
+     * @param game  Game    to encode
+     * @return the encoded game, ready to be read
+     */
+    static ByteBuffer encode(Game game) {
+        Board board = game.getBoard();
+        BoardSnapshot squares = board.copySquares();
+        ByteBuffer out = ByteBuffer.allocate(HEADER_SIZE + squares.encodedSize() + board.encodedRoundSize()
+                + game.encodedSize());
+        out.putInt(MAGIC).putShort(VERSION);
+        squares.encode(out);
+        board.encodeRound(out);
+        game.encode(out);
+        out.flip();
+        return out;
+    }
+    
+    /**
+     * Loads a game that has been saved by save() from the file. The header is read and checked first, so the buffer
+     * for the rest of the file is only allocated for saved games.
+     * 
+     * @param path  Path    of the file
+     * @return the loaded Game
+     * @throws IOException if the file cannot be read or is not a saved game
+     */
+    public static Game load(Path path) throws IOException {
+        ByteBuffer in;
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            long size = channel.size();
+            if (size < HEADER_SIZE || size > Integer.MAX_VALUE) {
+                throw new IOException(path + " is not a saved game");
+            }
+            ByteBuffer header = ByteBuffer.allocate(HEADER_SIZE);
+            readFully(channel, header, path);
+            header.flip();
+            if (header.getInt() != MAGIC || header.getShort() != VERSION) {
+                throw new IOException(path + " is not a saved game of version " + VERSION);
+            }
+            in = ByteBuffer.allocate((int) size - HEADER_SIZE);
+            readFully(channel, in, path);
+        }
+        in.flip();
+        try {
+            return decodeGame(in);
+        } catch (IllegalArgumentException e) {
+            throw new IOException(path + " is not a valid saved game", e);
+        }
+    }
+    
+    /**
+     * Reads from the channel until the buffer is full.
+     * 
+     * @param channel   FileChannel to read from
+     * @param buffer    ByteBuffer  to fill
+     * @param path      Path        of the file, for the message
+     * @throws IOException if the channel cannot be read or ends before the buffer is full
+     */
+    private static void readFully(FileChannel channel, ByteBuffer buffer, Path path) throws IOException {
+        while (buffer.hasRemaining()) {
+            if (channel.read(buffer) < 0) {
+                throw new IOException(path + " has been shortened while reading it");
+            }
+        }
+    }
+    
+    /**
+     * Decodes a whole game that has been encoded by encode(), with the header, as the GameLog embeds it.
+     * 
+     * @param in    ByteBuffer  with exactly the encoded game
+     * @return the decoded Game
+     * @throws IllegalArgumentException if the buffer does not hold a valid saved game
+     */
+    static Game decode(ByteBuffer in) {
+        if (in.remaining() < HEADER_SIZE || in.getInt() != MAGIC || in.getShort() != VERSION) {
+            throw new IllegalArgumentException("not a saved game of version " + VERSION);
+        }
+        return decodeGame(in);
+    }
+    
+    /**
+     * Decodes the board, its round and the players after the header.
+     * 
+     * @param in    ByteBuffer  with exactly the encoded game after the header
+     * @return the decoded Game
+     * @throws IllegalArgumentException if the buffer does not hold a valid saved game
+     */
+    private static Game decodeGame(ByteBuffer in) {
+        try {
+            Board board = new Board(BoardSnapshot.decode(in));
+            board.decodeRound(in);
+            Game game = Game.decode(in, board);
+            if (in.hasRemaining()) {
+                throw new IllegalArgumentException(in.remaining() + " bytes after the game");
+            }
+            return game;
+        } catch (BufferUnderflowException e) {
+            throw new IllegalArgumentException("the saved game ends too early", e);
+        }
+    }
+}
@@ -0,0 +1,601 @@
+package edu.kit.informatik.model;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+import edu.kit.informatik.model.objects.BoardObject;
+import edu.kit.informatik.model.objects.FireEngine;
+
+/**
+ * Append-only binary log of the games of a session: the board they start with, followed by one record for every
+ * accepted command that has changed a game, in the order they were made. Replaying the records on a new game
+ * from the same board creates the same game again, for post-mortems and to reproduce what players and bots did.
+ * <br><br>
+ * The log starts with a header of the magic number, the version and the encoded BoardSnapshot. Every record is the
+ * ordinal of its Op in one byte followed by its values: positions as two ints, names of fire engines as their
+ * length in one byte and their ASCII characters, the dice as one byte and marks as an int. A loaded game is the
+ * size of its saved game as an int followed by the bytes that GameFile saves it with, the replay goes on with it.
+ * The records are collected in a direct buffer and written to the FileChannel when it is full, on flush() and on
+ * close(). A log that ends in the middle of a record, because the program has been stopped while writing it, is
+ * replayed up to the last complete record.
+ * <br><br>
+ * The replay runs the changes on the Game directly, without the commands, their checks and their Results, since
+ * only accepted changes are logged, so no output is created.
+ * 
+ * @author Julian Dieskau
+ * @version 1.0
+ */
+public final class GameLog implements Closeable {
+    /** First int of every log, "FBLG" in ASCII */
+    private static final int MAGIC = 0x46424C47;
+    /** Version of the format that is written */
+    private static final short VERSION = 1;
+    /** Bytes of the magic number, the version and the size of the board in front of the board */
+    private static final int HEADER_SIZE = Integer.BYTES + Short.BYTES + Integer.BYTES;
+    /** Size of the buffer that the records are collected in */
+    private static final int BUFFER_SIZE = 1 << 16;
+    /** Size of the buffer that the records are read with */
+    private static final int READ_BUFFER_SIZE = 1 << 20;
+    /** Largest size of a record: the Op, a name of 255 characters after its length and a position */
+    private static final int MAX_RECORD = 1 + 1 + 0xFF + 2 * Integer.BYTES;
+    /** Lowest value of the dice */
+    private static final int MIN_DICE = 1;
+    /** Highest value of the dice */
+    private static final int MAX_DICE = 6;
+    /** All Ops in the order of their ordinal to read them */
+    private static final Op[] OPS = Op.values();
+    
+    /** Channel of the file */
+    private final FileChannel channel;
+    /** Records that have not been written yet */
+    private final ByteBuffer buffer = ByteBuffer.allocateDirect(BUFFER_SIZE);
+    /** Number of records */
+    private long records;
+    
+    /**
+     * Constructor for the log that appends to the given channel.
+     * 
+     * @param channel   FileChannel that the header has been written to
+     */
+    private GameLog(FileChannel channel) {
+        this.channel = channel;
+    }
+    
+    /**
+     * Creates the log file, replaces it if it exists, and writes the header with the board every game of the
+     * session starts with.
+     * 
+     * @param path  Path            of the file
+     * @param board BoardSnapshot   that every game starts with
+     * @return the new GameLog
+     * @throws IOException if the file cannot be created or written
+     */
+    public static GameLog create(Path path, BoardSnapshot board) throws IOException {
+        FileChannel channel = FileChannel.open(path, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                StandardOpenOption.TRUNCATE_EXISTING);
+        try {
+            ByteBuffer header = ByteBuffer.allocate(HEADER_SIZE + board.encodedSize());
+            header.putInt(MAGIC).putShort(VERSION).putInt(board.encodedSize());
+            board.encode(header);
+            header.flip();
+            while (header.hasRemaining()) {
+                channel.write(header);
+            }
+        } catch (IOException | RuntimeException e) {
+            channel.close();
+            throw e;
+        }
+        return new GameLog(channel);
+    }
+    
+    /**
+     * Getter for the number of records that have been appended.
+     * 
+     * @return number of records
+     */
+    public long getRecords() {
+        return this.records;
+    }
+    
+    /**
+     * Appends a record that the game has been replaced by a new one that starts with the board of the log.
+     */
+    public void reset() {
+        this.begin(Op.RESET, 0);
+    }
+    
+    /**
+     * Appends a record that the game has been replaced by a loaded one, with the whole loaded game, so the
+     * replay goes on with it. The game is saved like GameFile does, records larger than the buffer are written to
+     * the file directly.
+     * 
+     * @param loaded    Game    that replaces the current one
+     * @throws UncheckedIOException if the file cannot be written
+     */
+    public void load(Game loaded) {
+        ByteBuffer saved = GameFile.encode(loaded);
+        this.begin(Op.LOAD, Integer.BYTES);
+        this.buffer.putInt(saved.remaining());
+        if (this.buffer.remaining() < saved.remaining()) {
+            this.flush();
+        }
+        if (this.buffer.remaining() < saved.remaining()) {
+            this.write(saved);
+        } else {
+            this.buffer.put(saved);
+        }
+    }
+    
+    /**
+     * Appends a record that the next player is in turn.
+     */
+    void turn() {
+        this.begin(Op.TURN, 0);
+    }
+    
+    /**
+     * Appends a record that the current player has bought a fire engine.
+     * 
+     * @param i row of the square of the fire engine
+     * @param j column of the square of the fire engine
+     */
+    void buy(int i, int j) {
+        this.begin(Op.BUY, 2 * Integer.BYTES);
+        this.buffer.putInt(i).putInt(j);
+    }
+    
+    /**
+     * Appends a record that a fire engine has extinguished a square.
+     * 
+     * @param id    name of the fire engine
+     * @param i     row of the square
+     * @param j     column of the square
+     */
+    void extinguish(String id, int i, int j) {
+        this.begin(Op.EXTINGUISH, 1 + id.length() + 2 * Integer.BYTES);
+        BoardSnapshot.putName(this.buffer, id);
+        this.buffer.putInt(i).putInt(j);
+    }
+    
+    /**
+     * Appends a record that a fire engine has moved.
+     * 
+     * @param id    name of the fire engine
+     * @param i     row of the new square
+     * @param j     column of the new square
+     */
+    void move(String id, int i, int j) {
+        this.begin(Op.MOVE, 1 + id.length() + 2 * Integer.BYTES);
+        BoardSnapshot.putName(this.buffer, id);
+        this.buffer.putInt(i).putInt(j);
+    }
+    
+    /**
+     * Appends a record that a fire engine has been refilled.
+     * 
+     * @param id    name of the fire engine
+     */
+    void refill(String id) {
+        this.begin(Op.REFILL, 1 + id.length());
+        BoardSnapshot.putName(this.buffer, id);
+    }
+    
+    /**
+     * Appends a record that the fire has been rolled.
+     * 
+     * @param dice  value of the dice
+     */
+    void roll(int dice) {
+        this.begin(Op.ROLL, 1);
+        this.buffer.put((byte) dice);
+    }
+    
+    /**
+     * Appends a record that the next round of the players has been started.
+     */
+    void nextRound() {
+        this.begin(Op.NEXT_ROUND, 0);
+    }
+    
+    /**
+     * Appends a record that the state of the game has been marked.
+     */
+    void mark() {
+        this.begin(Op.MARK, 0);
+    }
+    
+    /**
+     * Appends a record that the game has been reverted to a mark.
+     * 
+     * @param mark  that the game has been reverted to
+     */
+    void undo(int mark) {
+        this.begin(Op.UNDO, Integer.BYTES);
+        this.buffer.putInt(mark);
+    }
+    
+    /**
+     * Starts a record: writes the buffer to the file first if the record does not fit into it anymore.
+     * 
+     * @param op    Op of the record
+     * @param size  number of bytes of the values of the record
+     */
+    private void begin(Op op, int size) {
+        if (this.buffer.remaining() < 1 + size) {
+            this.flush();
+        }
+        this.buffer.put((byte) op.ordinal());
+        this.records++;
+    }
+    
+    /**
+     * Writes all records that have been appended to the file.
+     * 
+     * @throws UncheckedIOException if the file cannot be written
+     */
+    public void flush() {
+        this.buffer.flip();
+        try {
+            this.write(this.buffer);
+        } finally {
+            this.buffer.compact();
+        }
+    }
+    
+    /**
+     * Writes all remaining bytes of the buffer to the file.
+     * 
+     * @param bytes ByteBuffer  to write
+     * @throws UncheckedIOException if the file cannot be written
+     */
+    private void write(ByteBuffer bytes) {
+        try {
+            while (bytes.hasRemaining()) {
+                this.channel.write(bytes);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+    
+    /**
+     * Writes all records that have been appended to the file and closes it.
+     * 
+     * @throws IOException if the file cannot be written or closed
+     */
+    @Override
+    public void close() throws IOException {
+        try {
+            this.flush();
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        } finally {
+            this.channel.close();
+        }
+    }
+    
+    /**
+     * Replays the log: creates a game from the board in the header and runs all records on it, records of resets
+     * replace it by a new one.
+     * 
+     * @param path  Path of the log file
+     * @return Replay with the game after the last record and the number of records
+     * @throws IOException if the file cannot be read or is not a log
+     */
+    public static Replay replay(Path path) throws IOException {
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            ByteBuffer header = readFully(channel, HEADER_SIZE);
+            if (header.getInt() != MAGIC || header.getShort() != VERSION) {
+                throw new IOException(path + " is not a game log of version " + VERSION);
+            }
+            BoardSnapshot board;
+            try {
+                board = BoardSnapshot.decode(readFully(channel, header.getInt()));
+            } catch (IllegalArgumentException | BufferUnderflowException e) {
+                throw new IOException(path + " has an invalid board", e);
+            }
+            Game game = start(board);
+            long records = 0;
+            ByteBuffer in = ByteBuffer.allocateDirect(READ_BUFFER_SIZE);
+            in.flip();
+            while (true) {
+                if (in.remaining() < MAX_RECORD) {
+                    in.compact();
+                    channel.read(in);
+                    in.flip();
+                    if (!in.hasRemaining()) {
+                        break;
+                    }
+                }
+                int op = in.get();
+                if (op < 0 || op >= OPS.length) {
+                    throw new IOException(path + " has an invalid record after " + records + " records");
+                }
+                if (OPS[op] == Op.LOAD && in.remaining() >= Integer.BYTES) {
+                    // a loaded game can be larger than the buffer, so all of it is read first
+                    in = fill(channel, in, Integer.BYTES + in.getInt(in.position()));
+                }
+                try {
+                    game = OPS[op].replay(game, board, in);
+                } catch (BufferUnderflowException e) {
+                    // the program was stopped while writing the last record
+                    break;
+                } catch (IllegalArgumentException e) {
+                    throw new IOException(path + " has an invalid record after " + records + " records", e);
+                }
+                records++;
+            }
+            return new Replay(game, records);
+        }
+    }
+    
+    /**
+     * Creates a new game that starts with the board.
+     * 
+     * @param board BoardSnapshot   to start with
+     * @return the new Game
+     */
+    private static Game start(BoardSnapshot board) {
+        Game game = new Game();
+        game.init(new Board(board));
+        return game;
+    }
+    
+    /**
+     * Reads from the channel until the buffer has the given number of bytes remaining or the channel ends, into a
+     * larger buffer if they do not fit.
+     * 
+     * @param channel   FileChannel to read from
+     * @param in        ByteBuffer  with the bytes read so far, ready to be read
+     * @param size      number of bytes that are needed
+     * @return the buffer with the bytes, ready to be read
+     * @throws IOException if the channel cannot be read or the size is invalid
+     */
+    private static ByteBuffer fill(FileChannel channel, ByteBuffer in, int size) throws IOException {
+        if (size < Integer.BYTES) {
+            throw new IOException("invalid size of a loaded game: " + size);
+        }
+        if (in.remaining() >= size || in.remaining() + channel.size() - channel.position() < size) {
+            // all of it is in the buffer already, or the log ends before it and the replay stops there
+            return in;
+        }
+        ByteBuffer buffer = in;
+        if (in.capacity() < size) {
+            buffer = ByteBuffer.allocate(size + MAX_RECORD).put(in);
+        } else {
+            buffer.compact();
+        }
+        while (buffer.position() < size && channel.read(buffer) >= 0) {
+            // read until the whole record is in the buffer or the log ends in the middle of it
+        }
+        return buffer.flip();
+    }
+    
+    /**
+     * Reads the given number of bytes from the channel.
+     * 
+     * @param channel   FileChannel to read from
+     * @param size      number of bytes
+     * @return a buffer with the bytes, ready to be read
+     * @throws IOException if the channel cannot be read or ends before
+     */
+    private static ByteBuffer readFully(FileChannel channel, int size) throws IOException {
+        if (size < 0) {
+            throw new IOException("invalid size of the header: " + size);
+        }
+        ByteBuffer buffer = ByteBuffer.allocate(size);
+        while (buffer.hasRemaining()) {
+            if (channel.read(buffer) < 0) {
+                throw new IOException("the log ends in its header");
+            }
+        }
+        return buffer.flip();
+    }
+    
+    /**
+     * Result of a replay: the game after the last record and the number of records.
+     * 
+     * @author Julian Dieskau
+     * @version 1.0
+     */
+    public static final class Replay {
+        /** Game after the last record */
+        private final Game game;
+        /** Number of replayed records */
+        private final long records;
+        
+        /**
+         * Constructor for the result of the replay.
+         * 
+         * @param game      Game    after the last record
+         * @param records   long    number of replayed records
+         */
+        private Replay(Game game, long records) {
+            this.game = game;
+            this.records = records;
+        }
+        
+        /**
+         * Getter for the game after the last record.
+         * 
+         * @return the Game
+         */
+        public Game getGame() {
+            return this.game;
+        }
+        
+        /**
+         * Getter for the number of replayed records.
+         * 
+         * @return number of records
+         */
+        public long getRecords() {
+            return this.records;
+        }
+    }
+    
+    /**
+     * Kinds of records, every one replays itself on the game, the ordinal is written to the log, so new ones
+     * need to be added at the end.
+     * 
+     * @author Julian Dieskau
+     * @version 1.0
+     */
+    private enum Op {
+        /** The game has been replaced by a new one */
+        RESET {
+            @Override
+            Game replay(Game game, BoardSnapshot board, ByteBuffer in) {
+                return start(board);
+            }
+        },
+        /** The next player is in turn */
+        TURN {
+            @Override
+            Game replay(Game game, BoardSnapshot board, ByteBuffer in) {
+                game.next();
+                return game;
+            }
+        },
+        /** A fire engine has been bought */
+        BUY {
+            @Override
+            Game replay(Game game, BoardSnapshot board, ByteBuffer in) {
+                int i = in.getInt();
+                int j = position(game, i, in.getInt());
+                game.placeFireEngine(i, j);
+                return game;
+            }
+        },
+        /** A square has been extinguished */
+        EXTINGUISH {
+            @Override
+            Game replay(Game game, BoardSnapshot board, ByteBuffer in) {
+                FireEngine engine = engine(game, in);
+                int i = in.getInt();
+                int j = position(game, i, in.getInt());
+                game.extinguishSquare(engine, i, j);
+                return game;
+            }
+        },
+        /** A fire engine has moved */
+        MOVE {
+            @Override
+            Game replay(Game game, BoardSnapshot board, ByteBuffer in) {
+                FireEngine engine = engine(game, in);
+                int i = in.getInt();
+                int j = position(game, i, in.getInt());
+                game.relocateFireEngine(engine, i, j);
+                return game;
+            }
+        },
+        /** A fire engine has been refilled */
+        REFILL {
+            @Override
+            Game replay(Game game, BoardSnapshot board, ByteBuffer in) {
+                game.refillTank(engine(game, in));
+                return game;
+            }
+        },
+        /** The fire has been rolled */
+        ROLL {
+            @Override
+            Game replay(Game game, BoardSnapshot board, ByteBuffer in) {
+                int dice = in.get();
+                if (dice < MIN_DICE || dice > MAX_DICE) {
+                    throw new IllegalArgumentException("invalid dice: " + dice);
+                }
+                game.spreadFire(dice);
+                return game;
+            }
+        },
+        /** The next round of the players has been started */
+        NEXT_ROUND {
+            @Override
+            Game replay(Game game, BoardSnapshot board, ByteBuffer in) {
+                game.startNextRound();
+                return game;
+            }
+        },
+        /** The state of the game has been marked */
+        MARK {
+            @Override
+            Game replay(Game game, BoardSnapshot board, ByteBuffer in) {
+                game.mark();
+                return game;
+            }
+        },
+        /** The game has been reverted to a mark */
+        UNDO {
+            @Override
+            Game replay(Game game, BoardSnapshot board, ByteBuffer in) {
+                game.undo(in.getInt());
+                return game;
+            }
+        },
+        /** The game has been replaced by a loaded one */
+        LOAD {
+            @Override
+            Game replay(Game game, BoardSnapshot board, ByteBuffer in) {
+                int size = in.getInt();
+                if (in.remaining() < size) {
+                    // the program was stopped while writing the loaded game
+                    throw new BufferUnderflowException();
+                }
+                ByteBuffer saved = in.slice().limit(size);
+                in.position(in.position() + size);
+                return GameFile.decode(saved);
+            }
+        };
+        
+        /**
+         * Checks that the position is on the board of the game.
+         * 
+         * @param game  Game    with the board
+         * @param i     row of the position
+         * @param j     column of the position
+         * @return the column
+         * @throws IllegalArgumentException if the position is outside of the board
+         */
+        private static int position(Game game, int i, int j) {
+            Board board = game.getBoard();
+            if (i < 0 || i >= board.getRows() || j < 0 || j >= board.getColumns()) {
+                throw new IllegalArgumentException("position outside of the board: " + i + "," + j);
+            }
+            return j;
+        }
+        
+        /**
+         * Reads the name of a fire engine and finds it on the board of the game.
+         * 
+         * @param game  Game        with the fire engine
+         * @param in    ByteBuffer  to read the name from
+         * @return the FireEngine
+         * @throws IllegalArgumentException if there is no fire engine with the name
+         */
+        private static FireEngine engine(Game game, ByteBuffer in) {
+            String id = BoardSnapshot.getName(in);
+            BoardObject engine = game.getBoard().getBoardObject(id);
+            if (!(engine instanceof FireEngine)) {
+                throw new IllegalArgumentException("no fire engine " + id);
+            }
+            return (FireEngine) engine;
+        }
+        
+        /**
+         * Reads the values of the record and runs it on the game. All values are read before the game is changed.
+         * 
+         * @param game  Game            to run the record on
+         * @param board BoardSnapshot   that new games start with
+         * @param in    ByteBuffer      to read the values from, after the Op
+         * @return the game after the record, a new one for a reset
+         */
+        abstract Game replay(Game game, BoardSnapshot board, ByteBuffer in);
+    }
+}
@@ -1,14 +1,13 @@
 package edu.kit.informatik.model;
 
 import java.util.ArrayList;
-import java.util.HashMap;
 import java.util.List;
-import java.util.Map;
+import java.util.concurrent.ForkJoinPool;
 
 import edu.kit.informatik.model.Square.State;
 import edu.kit.informatik.model.objects.BoardObject;
+import edu.kit.informatik.model.objects.BoardObject.Kind;
 import edu.kit.informatik.model.objects.FireEngine;
-import edu.kit.informatik.presenter.input.Patterns;
 import edu.kit.informatik.presenter.output.EliminationType;
 import edu.kit.informatik.presenter.output.ErrorMessages;
 import edu.kit.informatik.presenter.output.Result;
@@ -16,11 +15,56 @@ import edu.kit.informatik.presenter.output.Result.Type;
 
 /**
  * Class that is called for methods that are needed for the control structure of the game itself and its logic.
+ * <br><br>
+ * The fire can be spread in three ways with the same result, see Spread: by visiting every burning square, which
+ * is the default, with the bit masks of the board over 64 squares at a time, which is faster on large boards with a
+ * lot of fire, or with the bit masks in bands of rows on all cores. The other ways are switched on for all games
+ * with the system properties
+ * <blockquote><pre>
+ * -Dedu.kit.informatik.bitboard=true
+ * -Dedu.kit.informatik.parallel=true</pre>
+ * </blockquote>
  * 
  * @author Julian Dieskau
  * @version 1.0
  */
 public class GameLogic {
+    /** How the fire is spread if the instance does not say otherwise, chosen by the system properties */
+    private static final Spread DEFAULT_SPREAD = Boolean.getBoolean("edu.kit.informatik.parallel") ? Spread.PARALLEL
+            : Boolean.getBoolean("edu.kit.informatik.bitboard") ? Spread.BITBOARD : Spread.SQUARES;
+    
+    /** How this instance spreads the fire */
+    private final Spread spread;
+    /** Pool to spread the fire in parallel with */
+    private final ForkJoinPool pool;
+    
+    /**
+     * Constructor that spreads the fire the way the system properties say.
+     */
+    public GameLogic() {
+        this(DEFAULT_SPREAD);
+    }
+    
+    /**
+     * Constructor that chooses how the fire is spread, in parallel in the common ForkJoinPool.
+     * 
+     * @param spread    Spread  way to spread the fire
+     */
+    public GameLogic(Spread spread) {
+        this(spread, ForkJoinPool.commonPool());
+    }
+    
+    /**
+     * Constructor that chooses how the fire is spread and in which pool it is spread in parallel.
+     * 
+     * @param spread    Spread          way to spread the fire
+     * @param pool      ForkJoinPool    to spread the fire in if it is spread in parallel
+     */
+    public GameLogic(Spread spread, ForkJoinPool pool) {
+        this.spread = spread;
+        this.pool = pool;
+    }
+    
     /**
      * Checks every square to move on or over if it is allowed.
      * Works for the case that Constants.MAX_MOVE_DISTANCE == 2!
@@ -64,23 +108,26 @@ public class GameLogic {
             return new Result(ErrorMessages.MOVE_LIGHTLY_BURNING, Type.FAILURE);
         }
         // all checks passed:
-        return new Result("", Type.SUCCESS);
+        return Result.PASSED;
     }
     
     /**
      * Returns a list of BoardObjects that hold the references to all fire engines on the board inside.
+     * The fire stations can only be in the corners of the board, so only those squares are looked at, row by row.
      * 
      * @param board current Board of the game
      * @return List of all BoardObjects that are fire stations and on the board
      */
     public List<BoardObject> fillFireStations(Board board) {
         List<BoardObject> fireStations = new ArrayList<>();
-        for (int i = 0; i < board.getRows(); i++) {
-            for (int j = 0; j < board.getColumns(); j++) {
+        int[] rows = {0, board.getRows() - 1};
+        int[] columns = {0, board.getColumns() - 1};
+        for (int i : rows) {
+            for (int j : columns) {
                 Square s = board.getSquareAtPosition(i, j);
                 List<BoardObject> l = s.getObjects();
                 if (l.size() > 0) {
-                    if (l.get(0).getName().matches(Patterns.IS_PLAYER)) {
+                    if (l.get(0).getKind() == Kind.FIRE_STATION) {
                         fireStations.add(l.get(0));
                     }
                 }
@@ -198,7 +245,7 @@ public class GameLogic {
             return new Result(ErrorMessages.MOVE_NOT_FOREST, Type.FAILURE);
         }
         // return that its successful
-        return new Result("", Type.SUCCESS);
+        return Result.PASSED;
     }
     
     /**
@@ -211,41 +258,10 @@ public class GameLogic {
      *      if it was the first player or if the game is over after this.
      */
     public EliminationType eliminatePlayers(Board board, PlayerController pc) {
-        // Initialize Lists of fire engines for every remaining player
-        Map<Player, List<FireEngine>> map = new HashMap<>();
-        for (Player p : pc.getCycle()) {
-            map.put(p, new ArrayList<>());
-        }
-        // iterate through the board and add the fire engines to the lists for the right player
-        for (int i = 0; i < board.getRows(); i++) {
-            for (int j = 0; j < board.getColumns(); j++) {
-                // get the list of BoardObjects on the current square
-                Square s = board.getSquareAtPosition(i, j);
-                if (!s.IS_FOREST) {
-                    continue;
-                }
-                List<BoardObject> currentList = s.getObjects();
-                // if list is not empty get all FireEngines of it
-                for (BoardObject b : currentList) {
-                    if (b.getName().matches(Patterns.IS_FIRE_ENGINE)) {
-                        // get the name of the fire engine and compare it to the Players
-                        FireEngine f = (FireEngine) b;
-                        String name = String.valueOf(f.getName().charAt(0));
-                        // get the player with the name corresponding to the fire engine
-                        for (Player p : pc.getCycle()) {
-                            if (p.getID().toString().equals(name)) {
-                                // add the fire engine to the list in the map of this player
-                                map.get(p).add(f);
-                            }
-                        }
-                    }
-                }
-            }
-        }
-        // test if the list of one of the players is empty
+        // test which of the remaining players have no fire engines left on the board
         List<Player> empty = new ArrayList<>();
-        for (Player p : map.keySet()) {
-            if (map.get(p).isEmpty()) {
+        for (Player p : pc.getCycle()) {
+            if (board.countFireEngines(p.getID()) == 0) {
                 empty.add(p);
             }
         }
@@ -271,44 +287,54 @@ public class GameLogic {
     /**
      * Uses the "intArray" method of the Direction to call the correct neighboring Squares of all heavily burning ones.
      * Calls their burnSquare() method which automatically checks if burned before in that round so that only happens
-     * once. Automatically burns all lightly burning Squares to be heavily burning while iterating over the board.
+     * once. Automatically burns all lightly burning Squares to be heavily burning while iterating over them.
+     * <br><br>
+     * Only the squares that are burning can change anything, so only those are visited, but in the same row by row
+     * order as iterating over the whole board. Squares that catch fire while iterating have burned this round and
+     * are skipped when they are reached, just like they would be by iterating over the whole board.
+     * If this instance spreads the fire with the bit masks of the board, the board computes the same result with
+     * its BitBoard instead, in parallel for Spread.PARALLEL.
      * 
      * @param d     Direction: N, E, S, W are possible
      * @param board Board instance of the game to burn on
      */
     public void burnToDirection(Direction d, Board board) {
+        if (this.spread != Spread.SQUARES) {
+            board.spreadFire(d, this.spread == Spread.PARALLEL ? this.pool : null);
+            return;
+        }
         // gets the int array of d with the 2 values and reads them accordingly
         int[] arr = d.intArray();
-        int addRow = arr[0]; //
+        int addRow = arr[0];
         int addColumn = arr[1];
-        // iterate over all Squares of the board
-        for (int i = 0; i < board.getRows(); i++) {
-            // get the row position and continue to next iteration if out of bounds
+        int columns = board.getColumns();
+        // iterate over all burning Squares of the board
+        for (int index = board.nextBurningSquare(0); index >= 0; index = board.nextBurningSquare(index + 1)) {
+            int i = index / columns;
+            int j = index % columns;
+            // check if the square is allowed to set itself or sth. else on fire
+            // Check if the current Square has been newly set to its state or if its at this State from the last
+            Square auto = board.getSquareAtPosition(i, j);
+            if (auto.burnedThisRound()) {
+                continue;
+            }
+            // set the state to heavily burning when it is lightly burning 
+            if (auto.getState() == State.SPARKING) {
+                auto.burnSquare();
+                continue;
+            }
+            // get the row and column position and continue to next iteration if out of bounds
             int r = i + addRow;
-            for (int j = 0; j < board.getColumns(); j++) {
-                // check if the square is allowed to set itself or sth. else on fire
-                // Check if the current Square has been newly set to its state or if its at this State from the last
-                Square auto = board.getSquareAtPosition(i, j);
-                if (auto.burnedThisRound()) {
-                    continue;
-                }
-                // set the state to heavily burning when it is lightly burning 
-                if (auto.getState() == State.SPARKING) {
-                    auto.burnSquare();
-                    continue;
-                }
-                // get the column position and continue to next iteration if out of bounds
-                int c = j + addColumn;
-                if (c < 0 || c >= board.getColumns()) {
-                    continue;
-                } else if (r < 0 || r >= board.getRows()) {
-                    continue;
-                }
-                // it should proceed normally
-                if (auto.getState() == State.BURNING) {
-                    Square sq = board.getSquareAtPosition(r, c);
-                    sq.burnSquare();
-                }
+            int c = j + addColumn;
+            if (c < 0 || c >= columns) {
+                continue;
+            } else if (r < 0 || r >= board.getRows()) {
+                continue;
+            }
+            // it should proceed normally
+            if (auto.getState() == State.BURNING) {
+                Square sq = board.getSquareAtPosition(r, c);
+                sq.burnSquare();
             }
         }
     }
@@ -348,42 +374,38 @@ public class GameLogic {
     
     /**
      * Resets all variables inside the game class that need to be reset after every round.<br>
-     * Resets all Squares and all FireEngines on those squares by calling their special reset method.
+     * Resets all Squares that have burned and all FireEngines that have performed an action in the round,
+     * the board keeps track of those.
      * 
      * @param board     current Board instance of the game
      */
     public void roundReset(Board board) {
-        for (int i = 0; i < board.getRows(); i++) {
-            for (int j = 0; j < board.getColumns(); j++) {
-                Square s = board.getSquareAtPosition(i, j);
-                List<BoardObject> sObjects = s.getObjects();
-                for (BoardObject b : sObjects) {
-                    if (b.getName().matches(Patterns.IS_FIRE_ENGINE)) {
-                        FireEngine f = (FireEngine) b;
-                        f.roundReset();
-                    }
-                }
-                s.roundReset();
-            }
-        }
+        board.roundReset();
     }
     
     /**
      * Checks if the players have won the game by looking if all squares have been extinguished
-     * or rather by searching for the lightly and heavily burning squares and if none are existent the players won.
+     * or rather by counting the lightly and heavily burning squares and if none are existent the players won.
      * 
      * @param board     current Board instance of the game
      * @return <i>true</i> if the players won the game and it will be over
      */
     public boolean playersWon(Board board) {
-        for (int i = 0; i < board.getRows(); i++) {
-            for (int j = 0; j < board.getColumns(); j++) {
-                Square s = board.getSquareAtPosition(i, j);
-                if (s.getState() == State.BURNING || s.getState() == State.SPARKING) {
-                    return false;
-                }
-            }
-        }
-        return true;
+        return board.countForestSquares(State.SPARKING) == 0 && board.countForestSquares(State.BURNING) == 0;
+    }
+    
+    /**
+     * Ways to spread the fire, all of them have the same result.
+     * 
+     * @author Julian Dieskau
+     * @version 1.0
+     */
+    public enum Spread {
+        /** Visits every burning square, row by row */
+        SQUARES,
+        /** Spreads over 64 squares at a time with the bit masks of the board */
+        BITBOARD,
+        /** Spreads with the bit masks of the board in bands of rows in parallel */
+        PARALLEL
     }
 }
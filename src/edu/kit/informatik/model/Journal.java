@@ -0,0 +1,58 @@
+package edu.kit.informatik.model;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+
+/**
+ * Undo-journal of a game: every change of the game records how to revert it, so all changes after a mark can
+ * be reverted in the reverse order they were made, with work proportional to the number of changes and not to the
+ * size of the board.
+ * <br><br>
+ * The journal is only kept when it is asked for by Game.mark(), a game that is never marked does not record
+ * anything.
+ * 
+ * @author Julian Dieskau
+ * @version 1.0
+ */
+final class Journal {
+    /** Actions that revert the changes, the last change first */
+    private final Deque<Runnable> entries = new ArrayDeque<>();
+    /** {@value true} while reverting, the changes made by the reverting actions are not recorded again */
+    private boolean undoing = false;
+    
+    /**
+     * Records the action that reverts the change that is about to be made or has just been made.
+     * 
+     * @param undo  Runnable that reverts the change
+     */
+    void record(Runnable undo) {
+        if (!this.undoing) {
+            this.entries.push(undo);
+        }
+    }
+    
+    /**
+     * Getter for the number of changes recorded so far, used as a mark to undo to.
+     * 
+     * @return number of recorded changes
+     */
+    int size() {
+        return this.entries.size();
+    }
+    
+    /**
+     * Reverts all changes that have been recorded after the mark, the last one first.
+     * 
+     * @param mark  number of recorded changes to keep
+     */
+    void undoTo(int mark) {
+        this.undoing = true;
+        try {
+            while (this.entries.size() > mark) {
+                this.entries.pop().run();
+            }
+        } finally {
+            this.undoing = false;
+        }
+    }
+}
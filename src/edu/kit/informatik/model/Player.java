@@ -1,5 +1,7 @@
 package edu.kit.informatik.model;
 
+import java.nio.ByteBuffer;
+
 /**
  * Class that represents a Player and methods for his balance in the game.
  * 
@@ -7,6 +9,11 @@ package edu.kit.informatik.model;
  * @version 1.0
  */
 public class Player {
+    /** Number of bytes that encode() writes */
+    static final int ENCODED_SIZE = 1 + 2 * Integer.BYTES;
+    /** All Players-ids in the order of their ordinal to read them */
+    private static final Players[] PLAYERS = Players.values();
+    
     private Players p;
     private int balance; //reputation points
     private int lastEngineID = 0;
@@ -21,6 +28,17 @@ public class Player {
         this.balance = 0;
     }
     
+    /**
+     * Copy-constructor that copies the id, the balance and the ids of the bought fire engines of the other Player.
+     * 
+     * @param other Player to copy
+     */
+    public Player(Player other) {
+        this.p = other.p;
+        this.balance = other.balance;
+        this.lastEngineID = other.lastEngineID;
+    }
+    
     /**
      * Getter for the amount of reputation points (balance) the Player has.
      * 
@@ -80,6 +98,36 @@ public class Player {
         this.lastEngineID++;
     }
     
+    /**
+     * Writes the id, the balance and the ids of the bought fire engines to the buffer, ENCODED_SIZE bytes.
+     * 
+     * @param out   ByteBuffer  to write to
+     */
+    void encode(ByteBuffer out) {
+        out.put((byte) this.p.ordinal()).putInt(this.balance).putInt(this.lastEngineID);
+    }
+    
+    /**
+     * Reads a Player that has been written by encode() from the buffer.
+     * 
+     * @param in    ByteBuffer  to read from
+     * @return the Player
+     * @throws IllegalArgumentException if the buffer does not hold a valid Player
+     */
+    static Player decode(ByteBuffer in) {
+        int id = in.get();
+        if (id < 0 || id >= PLAYERS.length) {
+            throw new IllegalArgumentException("unknown player: " + id);
+        }
+        Player player = new Player(PLAYERS[id]);
+        player.balance = in.getInt();
+        player.lastEngineID = in.getInt();
+        if (player.balance < 0 || player.lastEngineID < 0) {
+            throw new IllegalArgumentException("invalid balance or fire engines of player " + player);
+        }
+        return player;
+    }
+    
     @Override
     public String toString() {
         return this.p.toString();
@@ -119,6 +167,16 @@ public class Player {
             public String toString() {
                 return "D";
             }
+        };
+        
+        /**
+         * Gives the id as a single character, which is the first letter of the names of the fire engines
+         * and the name of the fire station of the player.
+         * 
+         * @return id of the player as char
+         */
+        public char toChar() {
+            return this.toString().charAt(0);
         }
     }
 }
\ No newline at end of file
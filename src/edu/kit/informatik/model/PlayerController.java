@@ -1,5 +1,6 @@
 package edu.kit.informatik.model;
 
+import java.nio.ByteBuffer;
 import java.util.ArrayList;
 import java.util.List;
 
@@ -32,6 +33,28 @@ public class PlayerController {
         this.moveCountDown = this.cycle.size();
     }
     
+    /**
+     * Copy-constructor that copies all Players in the same order and the state of the current round, so the copy
+     * can go on without changing the other PlayerController.
+     * 
+     * @param other PlayerController to copy
+     */
+    public PlayerController(PlayerController other) {
+        this.cycle = new ArrayList<>(other.cycle.size());
+        Player round = null;
+        for (Player p : other.cycle) {
+            Player copy = new Player(p);
+            this.cycle.add(copy);
+            if (p == other.roundElement) {
+                round = copy;
+            }
+        }
+        // the element that started the round might have been eliminated and is not in the cycle anymore
+        this.roundElement = round != null ? round : new Player(other.roundElement);
+        this.waitForDice = other.waitForDice;
+        this.moveCountDown = other.moveCountDown;
+    }
+    
     /**
      * Shifts all Players one Position to the left and queues the first as the last.
      */
@@ -141,13 +164,76 @@ public class PlayerController {
         return this.waitForDice;
     }
     
+    /**
+     * Number of bytes that encode() writes.
+     * 
+     * @return size of the encoded PlayerController in bytes
+     */
+    int encodedSize() {
+        int size = 1 + this.cycle.size() * Player.ENCODED_SIZE + 1 + 1 + Integer.BYTES;
+        if (!this.cycle.contains(this.roundElement)) {
+            size += Player.ENCODED_SIZE;
+        }
+        return size;
+    }
+    
+    /**
+     * Writes the cycle of the Players and the state of the current round to the buffer: the number of Players and
+     * the Players in their order, the position of the element that started the round in the cycle, followed by
+     * that Player if it has been eliminated, if it waits for the dice and the count down of the moves.
+     * 
+     * @param out   ByteBuffer  to write to, needs to have encodedSize() bytes remaining
+     */
+    void encode(ByteBuffer out) {
+        out.put((byte) this.cycle.size());
+        for (Player p : this.cycle) {
+            p.encode(out);
+        }
+        int round = this.cycle.indexOf(this.roundElement);
+        out.put((byte) round);
+        if (round < 0) {
+            this.roundElement.encode(out);
+        }
+        out.put((byte) (this.waitForDice ? 1 : 0)).putInt(this.moveCountDown);
+    }
+    
+    /**
+     * Reads a PlayerController that has been written by encode() from the buffer.
+     * 
+     * @param in    ByteBuffer  to read from
+     * @return the PlayerController
+     * @throws IllegalArgumentException if the buffer does not hold a valid PlayerController
+     */
+    static PlayerController decode(ByteBuffer in) {
+        PlayerController pc = new PlayerController();
+        int size = in.get();
+        if (size < 1 || size > Players.values().length) {
+            throw new IllegalArgumentException("invalid number of players: " + size);
+        }
+        pc.cycle = new ArrayList<>(size);
+        for (int k = 0; k < size; k++) {
+            pc.cycle.add(Player.decode(in));
+        }
+        int round = in.get();
+        if (round < -1 || round >= size) {
+            throw new IllegalArgumentException("invalid player that started the round: " + round);
+        }
+        pc.roundElement = round < 0 ? Player.decode(in) : pc.cycle.get(round);
+        pc.waitForDice = in.get() != 0;
+        pc.moveCountDown = in.getInt();
+        return pc;
+    }
+    
     /**
      * Sets the round variables of the Player Controller.<br>
      * Indicates that the round will go on and normal "next player" requests can be used again
      * as well as other game functions.
      */
     public void startNextRound() {
+        FlightEvents.NextRoundEvent event = new FlightEvents.NextRoundEvent(this.cycle.size());
+        event.begin();
         this.waitForDice = false;
         this.moveCountDown = this.cycle.size();
+        event.commit();
     }
 }
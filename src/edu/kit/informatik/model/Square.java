@@ -1,58 +1,59 @@
 package edu.kit.informatik.model;
 
-import java.util.ArrayList;
 import java.util.List;
 
 import edu.kit.informatik.model.objects.BoardObject;
-import edu.kit.informatik.presenter.input.Patterns;
 
 /**
- * Game-class that represents one square of the whole board and stores all objects that stand on it.
+ * Game-class that represents one square of the whole board and gives access to all objects that stand on it.
  * Also has the State of the Square, which can either be wet, dry, lightly burning (sparking), or
  * heavily burning (burning) and which decides, which action will be taken.
+ * <br><br>
+ * The Square does not store any of that itself, it is only a view on the packed data inside the Board and
+ * obtained by calling Board.getSquareAtPosition(). Two Squares are equal if they view the same square.
  * 
  * @author Julian Dieskau
  * @version 1.0
  */
 public class Square {
-    /** State of the Square */
-    private State state;
-    /** List of all Objects that are placed on the Square */
-    private List<BoardObject> objects;
     /** Decides if the field is a forest or not, if {@value true} it can burn or be extinguished. */
     public final boolean IS_FOREST;
-    /** boolean that shall be reset at the beginning of each round to see, if the burning should happen or not  TODO!*/ 
-    private boolean burnedThisRound = false;
+    /** Board that holds the data of the Square */
+    private final Board board;
+    /** Index of the Square in the packed data of the board */
+    private final int index;
     
     
     /**
-     * Constructor for the Square which sets its state.
-     * Used when there is no need to place an Object on it while init().
-     * Use if is a forest and there are no Objects placed here.
+     * Constructor for the view on the square with the given index of the board.
      * 
-     * @param s         State   initial state of the Square
+     * @param board Board   that holds the data of the square
+     * @param index int     index of the square in the packed data of the board
      */
-    public Square(State s) {
-        this.state = s;
-        this.IS_FOREST = true;
-        this.objects = new ArrayList<>();
+    Square(Board board, int index) {
+        this.board = board;
+        this.index = index;
+        this.IS_FOREST = board.isForest(index);
     }
     
     /**
-     * Constructor for the Square which sets its state and an Object on top of it.
-     * Used when there is a need to place an Object on it while init().
-     * Places the Object in the objects-list, cause from the style of the args[] there is no need for multiple obj.
-     * isForest can only be set false if there are only FireStation- or Lake-BoardObjects added!
+     * Getter for the index of the square in the packed data of the board.
      * 
-     * @param s         State       initial state of the Square
-     * @param obj       BoardObject to be placed on the square
-     * @param isForest  boolean     if it can be burned or not
+     * @return index of the square
      */
-    public Square(State s, BoardObject obj, boolean isForest) {
-        this.state = s;
-        this.IS_FOREST = isForest;
-        this.objects = new ArrayList<>();
-        this.objects.add(obj);
+    int getIndex() {
+        return this.index;
+    }
+    
+    /**
+     * Returns the view on the square at the same position of another board of the same size, used for copies
+     * of the board.
+     * 
+     * @param other Board   copy of the board of this square
+     * @return Square at the same position on the other board
+     */
+    public Square on(Board other) {
+        return new Square(other, this.index);
     }
     
     /**
@@ -63,36 +64,26 @@ public class Square {
         if (!this.IS_FOREST) {
             return;
         }
-        // check if there are any objects in the list:
-        if (this.objects.isEmpty()) {
-            return;
-        }
-        // iterate backwards through the objects List to prevent changing the positions of the objects in the list
-        for (int i = this.objects.size() - 1; i >= 0; i--) {
-            // check if the boardobject is a fire engine and if yes remove it from the list
-            if (!this.objects.get(i).getName().matches(Patterns.IS_FIRE_ENGINE)) {
-                continue;
-            }
-            this.objects.remove(i);
-        }
+        this.board.burnFireEngines(this.index);
     }
     
     /**
      * Getter for the current State of the Square.
      * 
-     * @return State    current value of the state-attribute 
+     * @return State    current value of the state-attribute
      */
     public State getState() {
-        return this.state;
+        return this.board.getState(this.index);
     }
     
     /**
      * Getter for the List of all Objects that are placed on the Square.
+     * Do not change the list directly, use placeObject() and removeObject() instead.
      * 
      * @return List<Object> all objects that are inside the objects-list
      */
     public List<BoardObject> getObjects() {
-        return this.objects;
+        return this.board.getObjects(this.index);
     }
     
     /**
@@ -102,7 +93,7 @@ public class Square {
      * @return boolean {@value true} if has burned already
      */
     public boolean burnedThisRound() {
-        return this.burnedThisRound;
+        return this.board.burnedThisRound(this.index);
     }
     
     /**
@@ -116,13 +107,13 @@ public class Square {
         if (!this.IS_FOREST) {
             return false;
         }
-        this.objects.add(o);
+        this.board.addObject(this.index, o);
         return true;
     }
     
     /**
      * Tries to remove the BoardObject with the given name from the Square.
-     * If is not a Forest-Square return false, the single Object on 
+     * If is not a Forest-Square return false, the single Object on
      * 
      * @param name   String of the BoardObject's name
      * @return boolean {@value true} if successful, {@value false} if not found or empty list.
@@ -131,13 +122,14 @@ public class Square {
         if (!this.IS_FOREST) {
             return false;
         }
-        int length = this.objects.size();
+        List<BoardObject> objects = this.getObjects();
+        int length = objects.size();
         if (length == 0) {
             return false;
         }
         for (int i = 0; i < length; i++) {
-            if (this.objects.get(i).getName().equals(name)) {
-                this.objects.remove(i);
+            if (objects.get(i).getName().equals(name)) {
+                this.board.removeObject(this.index, i);
                 return true;
             }
         }
@@ -145,7 +137,16 @@ public class Square {
     }
     
     /**
-     * Method that is called to change the state of the Square making it 
+     * Sets the state of the square and marks it as burned in this round.
+     * 
+     * @param s new State of the square
+     */
+    private void burnTo(State s) {
+        this.board.burnTo(this.index, s);
+    }
+    
+    /**
+     * Method that is called to change the state of the Square making it
      * dry, when wet
      * sparking, when dry
      * burning, when sparking
@@ -154,22 +155,19 @@ public class Square {
      * @return boolean {@value true} if the square-state has been changed by the method-call
      */
     public boolean burnSquare() {
-        if (IS_FOREST && !burnedThisRound) {
-            switch (this.state) {
+        if (IS_FOREST && !this.burnedThisRound()) {
+            switch (this.getState()) {
             case WET:
-                this.state = State.DRY;
-                this.burnedThisRound = true;
-                return (this.state == State.DRY);
+                this.burnTo(State.DRY);
+                return true;
             case DRY:
-                this.state = State.SPARKING;
-                this.burnedThisRound = true;
-                return (this.state == State.SPARKING);
+                this.burnTo(State.SPARKING);
+                return true;
             case SPARKING:
-                this.state = State.BURNING;
-                this.burnedThisRound = true;
+                this.burnTo(State.BURNING);
                 // all fire engines shall be removed if a square is burning heavily:
                 this.burnFireEngines();
-                return (this.state == State.BURNING);
+                return true;
             default:
                 // only reached when State.BURNING, then remove all FireEngines on the board just in case
                 this.burnFireEngines();
@@ -179,7 +177,7 @@ public class Square {
             // it has already been burned, so do not do it again
             return false;
         }
-        
+    
     }
     
     /**
@@ -189,7 +187,7 @@ public class Square {
      */
     public boolean canExtinguish() {
         if (this.IS_FOREST) {
-            if (this.state == State.WET) {
+            if (this.getState() == State.WET) {
                 return false;
             }
             return true;
@@ -205,14 +203,15 @@ public class Square {
      */
     public boolean extinguish() {
         if (this.IS_FOREST) {
-            if (this.state == State.DRY) {
-                this.state = State.WET;
+            State state = this.getState();
+            if (state == State.DRY) {
+                this.board.setState(this.index, State.WET);
                 return false;
-            } else if (this.state == State.SPARKING) {
-                this.state = State.WET;
+            } else if (state == State.SPARKING) {
+                this.board.setState(this.index, State.WET);
             }
-            else if (this.state == State.BURNING) {
-                this.state = State.SPARKING;
+            else if (state == State.BURNING) {
+                this.board.setState(this.index, State.SPARKING);
             }
             // fire was extinguished, give reputation points
             return true;
@@ -225,7 +224,7 @@ public class Square {
      * Sets the burnedThisRound to false so it can be used the next round.
      */
     public void roundReset() {
-        this.burnedThisRound = false;
+        this.board.setBurnedThisRound(this.index, false);
     }
     
     /**
@@ -238,16 +237,17 @@ public class Square {
     public String printSquare() {
         // if is not a forest-square
         if (!this.IS_FOREST) {
-            return this.objects.get(0).getName();
+            return this.getObjects().get(0).getName();
         }
         // if it is a forest square
-        if (this.state == State.WET) {
+        State state = this.getState();
+        if (state == State.WET) {
             return "w";
-        } else if (this.state == State.DRY) {
+        } else if (state == State.DRY) {
             return "d";
-        } else if (this.state == State.SPARKING) {
+        } else if (state == State.SPARKING) {
             return "+";
-        } else if (this.state == State.BURNING) {
+        } else if (state == State.BURNING) {
             return "*";
         } else {
             // will never be reached except someone adds another State-value
@@ -261,14 +261,37 @@ public class Square {
      * @return the character as a String representing the square for show-board
      */
     public String strShowBoard() {
+        return String.valueOf(this.charShowBoard());
+    }
+    
+    /**
+     * Finds the character that should represent the state of this Square on the board in the console
+     * 
+     * @return the character representing the square for show-board
+     */
+    public char charShowBoard() {
         if (!this.IS_FOREST) {
-            return "x";
-        } else if (this.state == State.SPARKING) {
-            return "+";
-        } else if (this.state == State.BURNING) {
-            return "*";
+            return 'x';
+        } else if (this.getState() == State.SPARKING) {
+            return '+';
+        } else if (this.getState() == State.BURNING) {
+            return '*';
         }
-        return "x";
+        return 'x';
+    }
+    
+    @Override
+    public boolean equals(Object o) {
+        if (!(o instanceof Square)) {
+            return false;
+        }
+        Square other = (Square) o;
+        return this.board == other.board && this.index == other.index;
+    }
+    
+    @Override
+    public int hashCode() {
+        return this.index;
     }
     
     /**
@@ -29,6 +29,14 @@ public abstract class BoardObject {
         this.columnPosition = 0;
     }
     
+    /**
+     * Gives the kind of the board object, needs to be implemented by extending classes.
+     * Use it instead of testing the name against a pattern.
+     * 
+     * @return Kind of the board object
+     */
+    public abstract Kind getKind();
+    
     /**
      * Getter for the name-attribute of the board object.
      * 
@@ -66,4 +74,29 @@ public abstract class BoardObject {
     public int getColumnPosition() {
         return this.columnPosition;
     }
+    
+    /**
+     * Getter for the id of the player the board object belongs to, which is the first letter of its name.
+     * Only has a meaning for fire engines and fire stations.
+     * 
+     * @return first character of the name
+     */
+    public char getOwner() {
+        return this.name.charAt(0);
+    }
+    
+    /**
+     * Enum for the different kinds of board objects.
+     * 
+     * @author Julian Dieskau
+     * @version 1.0
+     */
+    public enum Kind {
+        /** A FireEngine */
+        FIRE_ENGINE,
+        /** A FireStation */
+        FIRE_STATION,
+        /** A Lake */
+        LAKE
+    }
 }
@@ -1,8 +1,10 @@
 package edu.kit.informatik.model.objects;
 
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
 
+import edu.kit.informatik.model.Board;
 import edu.kit.informatik.model.Square;
 import edu.kit.informatik.presenter.output.ErrorMessages;
 import edu.kit.informatik.presenter.output.Result;
@@ -52,6 +54,67 @@ public class FireEngine extends BoardObject {
         this.actionPoints = MAX_ACTION_POINTS;
     }
     
+    /**
+     * Copy-constructor for the copy of a board, the copy has the same water, action points and the same
+     * squares extinguished in the current round, but on the given board. <br>
+     * Also needs to be told its position by calling BoardObject.changePosition() after constructing it.
+     * 
+     * @param other FireEngine to copy
+     * @param board Board the copy is placed on
+     */
+    public FireEngine(FireEngine other, Board board) {
+        super(other.getName());
+        this.waterLevel = other.waterLevel;
+        this.actionPoints = other.actionPoints;
+        this.doneAction = other.doneAction;
+        for (Square sq : other.extinguished) {
+            this.extinguished.add(sq.on(board));
+        }
+    }
+    
+    /**
+     * Constructor for a fire engine in the middle of a round, used to load a saved game: it has the given water and
+     * action points and has extinguished the given squares in the current round. <br>
+     * Also needs to be told its position by calling BoardObject.changePosition() after constructing it.
+     * 
+     * @param name          String          that is like an id for the BoardObject
+     * @param waterLevel    int             amount of water in the tank
+     * @param actionPoints  int             amount of actions left in the round
+     * @param doneAction    boolean         if it has already done an action, so it cannot move anymore
+     * @param extinguished  List<Square>    squares extinguished in the current round
+     * @throws IllegalArgumentException if the water or the action points are out of their range
+     */
+    public FireEngine(String name, int waterLevel, int actionPoints, boolean doneAction, List<Square> extinguished) {
+        super(name);
+        if (waterLevel < TANK_EMPTY || waterLevel > TANK_CAPACITY || actionPoints < NO_ACTIONS_LEFT
+                || actionPoints > MAX_ACTION_POINTS) {
+            throw new IllegalArgumentException("invalid water or action points of fire engine " + name);
+        }
+        this.waterLevel = waterLevel;
+        this.actionPoints = actionPoints;
+        this.doneAction = doneAction;
+        this.extinguished.addAll(extinguished);
+    }
+    
+    /**
+     * Sets the water, action points, the squares extinguished in the current round and the position back to the
+     * ones of the saved copy of this fire engine, used to undo the changes of a game.
+     * 
+     * @param saved FireEngine copy of this fire engine that was made before the changes
+     */
+    public void restore(FireEngine saved) {
+        this.waterLevel = saved.waterLevel;
+        this.actionPoints = saved.actionPoints;
+        this.doneAction = saved.doneAction;
+        this.extinguished = new ArrayList<>(saved.extinguished);
+        this.changePosition(saved.getRowPosition(), saved.getColumnPosition());
+    }
+    
+    @Override
+    public Kind getKind() {
+        return Kind.FIRE_ENGINE;
+    }
+    
     /**
      * Getter for the current amount of action points of this FireEngine
      * 
@@ -70,11 +133,29 @@ public class FireEngine extends BoardObject {
         return this.waterLevel;
     }
     
+    /**
+     * Getter for the doneAction-attribute, if this FireEngine has already done an action in the current round.
+     * 
+     * @return {@value true} if it cannot move anymore in this round
+     */
+    public boolean hasDoneAction() {
+        return this.doneAction;
+    }
+    
+    /**
+     * Getter for the squares this FireEngine has extinguished in the current round.
+     * 
+     * @return unmodifiable List of the squares in the order they were extinguished
+     */
+    public List<Square> getExtinguished() {
+        return Collections.unmodifiableList(this.extinguished);
+    }
+    
     /**
      * Returns if a given square has already been extinguished by <b>this</b> fire engine in the current round 
      * cause it is not allowed twice. You need more than one fire engine to extinguish a heavily burning fire
      * within a single round.
-     *
+     * 
      * @param s square to be tested
      * @return <i>true</i> if square has been extinguished already, 
      *      <i>false</i> if the fire engine can still extinguish it
@@ -103,7 +184,7 @@ public class FireEngine extends BoardObject {
         this.actionPoints--;
         this.extinguished.add(s);
         this.doneAction = true;
-        return new Result("", Type.SUCCESS);
+        return Result.PASSED;
     }
     
     /**
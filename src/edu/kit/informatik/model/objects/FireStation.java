@@ -17,4 +17,9 @@ public class FireStation extends BoardObject {
     public FireStation(String name) {
         super(name);
     }
+    
+    @Override
+    public Kind getKind() {
+        return Kind.FIRE_STATION;
+    }
 }
@@ -16,4 +16,9 @@ public class Lake extends BoardObject {
     public Lake() {
         super(NAME);
     }
+    
+    @Override
+    public Kind getKind() {
+        return Kind.LAKE;
+    }
 }
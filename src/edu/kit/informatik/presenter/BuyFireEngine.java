@@ -13,12 +13,12 @@ import edu.kit.informatik.presenter.output.Result.Type;
  * @version 1.0
  */
 public class BuyFireEngine extends Command {
-
+    
     @Override
     public String getName() {
         return "buy-fire-engine";
     }
-
+    
     @Override
     public Result execute(Game g, String[] input) {
         // test if game is over
@@ -37,9 +37,7 @@ public class BuyFireEngine extends Command {
         if (r.getType().equals(Type.FAILURE)) {
             return r;
         }
-        // is a valid position, the position gets transmitted as a String in the message of r
-        // in the form "i,j"
-        String[] split = r.getMessage().split(",", 2);
-        return g.buyFireEngine(Integer.valueOf(split[0]), Integer.valueOf(split[1]));
+        // is a valid position, the row and column of the position are the numbers of r
+        return g.buyFireEngine(r.getFirst(), r.getSecond());
     }
 }
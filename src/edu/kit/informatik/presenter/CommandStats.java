@@ -0,0 +1,277 @@
+package edu.kit.informatik.presenter;
+
+import java.io.PrintStream;
+import java.util.Locale;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+import edu.kit.informatik.presenter.output.Result.Type;
+
+/**
+ * Latency histograms and counters of the commands, one Recorder per name of a command.
+ * <br><br>
+ * The histograms are log-linear like an HDR histogram: every power of two of nanoseconds is split into 16 buckets of
+ * the same width, so every recorded time is known up to 1/16 of its value, from one nanosecond up to the largest
+ * long. Recording only adds to a few LongAdders without any locks, so all sessions of the program can record into the
+ * same Recorders at the same time and the recording can stay on all the time: threads that record the same command
+ * at once add to different cells of the counters instead of all retrying on one of them.
+ * The report is read from the counters while they may still change, so it is not an exact snapshot of one moment.
+ * 
+ * @author Julian Dieskau
+ * @version 1.0
+ */
+public final class CommandStats {
+    /** Bits of a recorded time below its highest one bit that select the bucket of its power of two */
+    private static final int SUB_BITS = 4;
+    /** Number of buckets per power of two */
+    private static final int SUB_BUCKETS = 1 << SUB_BITS;
+    /** Number of buckets, enough for every positive long */
+    private static final int BUCKETS = (Long.SIZE - SUB_BITS) * SUB_BUCKETS;
+    /** Percentiles of the report */
+    private static final double[] PERCENTILES = {0.5, 0.9, 0.99};
+    /** First line of the report */
+    private static final String HEADER = "command,calls,success,failure,exit,reset,per-second,mean-us,p50-us,p90-us,"
+            + "p99-us,max-us";
+    /** Format of a line of the report after the name of the command */
+    private static final String LINE = ",%d,%d,%d,%d,%d,%.1f,%.1f,%.1f,%.1f,%.1f,%.1f";
+    /** Name of the line that sums up all commands */
+    private static final String TOTAL = "total";
+    /** Statistics of all sessions of the program */
+    private static final CommandStats PROCESS = new CommandStats();
+    
+    /** Recorders by the name of their command */
+    private final Map<String, Recorder> recorders = new ConcurrentHashMap<>();
+    /** Time the statistics were created at, for the commands per second */
+    private final long start = System.nanoTime();
+    
+    /**
+     * Constructor for statistics without any recorded calls, the commands per second are counted from now on.
+     */
+    public CommandStats() {
+    }
+    
+    /**
+     * Getter for the statistics of all sessions of the program, that the IO records into.
+     * 
+     * @return the CommandStats of the program
+     */
+    public static CommandStats process() {
+        return PROCESS;
+    }
+    
+    /**
+     * Gives the Recorder of the command with the given name and creates it on the first call. Should be called once
+     * for every command and the Recorder kept, not for every call of the command.
+     * 
+     * @param name  String  of the command
+     * @return the Recorder of the command
+     */
+    public Recorder recorder(String name) {
+        return this.recorders.computeIfAbsent(name, n -> new Recorder());
+    }
+    
+    /**
+     * Prints the report to the stream when the program exits, also if it is stopped from the outside.
+     * 
+     * @param out   PrintStream to print the report to
+     */
+    public void dumpOnExit(PrintStream out) {
+        Runtime.getRuntime().addShutdownHook(new Thread(() -> out.println(this.report())));
+    }
+    
+    /**
+     * Creates the report with one line for every command that has been called, sorted by their names, and a last
+     * line that sums up all of them: the number of calls, the calls by Type of their Result, the calls per second
+     * since the statistics were created and the mean, median, 90th and 99th percentile and maximum time of a call
+     * in microseconds.
+     * 
+     * @return the report, its lines are separated by line breaks
+     */
+    public String report() {
+        double seconds = Math.max(System.nanoTime() - this.start, 1) / 1e9;
+        Recorder total = new Recorder();
+        StringBuilder out = new StringBuilder(HEADER);
+        for (Map.Entry<String, Recorder> e : new TreeMap<>(this.recorders).entrySet()) {
+            Recorder copy = e.getValue().copy();
+            if (copy.calls() > 0) {
+                out.append('\n').append(e.getKey());
+                copy.appendTo(out, seconds);
+                total.add(copy);
+            }
+        }
+        out.append('\n').append(TOTAL);
+        total.appendTo(out, seconds);
+        return out.toString();
+    }
+    
+    /**
+     * Index of the bucket of the given time: times below SUB_BUCKETS have their own bucket, every bigger time is
+     * put into the bucket of its highest one bit and the SUB_BITS bits below it.
+     * 
+     * @param nanos long    time in nanoseconds, at least 0
+     * @return index of the bucket
+     */
+    private static int bucket(long nanos) {
+        if (nanos < SUB_BUCKETS) {
+            return (int) nanos;
+        }
+        int exponent = Long.SIZE - 1 - Long.numberOfLeadingZeros(nanos);
+        int sub = (int) (nanos >>> (exponent - SUB_BITS)) & (SUB_BUCKETS - 1);
+        return (exponent - SUB_BITS + 1) * SUB_BUCKETS + sub;
+    }
+    
+    /**
+     * Highest time that is put into the bucket with the given index, the inverse of bucket().
+     * 
+     * @param index int     of the bucket
+     * @return highest time of the bucket in nanoseconds
+     */
+    private static long highestOf(int index) {
+        if (index < SUB_BUCKETS) {
+            return index;
+        }
+        int shift = index / SUB_BUCKETS - 1;
+        long lowest = (long) (SUB_BUCKETS + index % SUB_BUCKETS) << shift;
+        return lowest + (1L << shift) - 1;
+    }
+    
+    /**
+     * Histogram of the times and counters of the Results of one command. Every method may be called from any
+     * thread at any time.
+     * 
+     * @author Julian Dieskau
+     * @version 1.0
+     */
+    public static final class Recorder {
+        /** Number of calls by the bucket of their time */
+        private final LongAdder[] buckets = adders(BUCKETS);
+        /** Number of calls by the Type of their Result */
+        private final LongAdder[] types = adders(Type.values().length);
+        /** Sum of the times of all calls in nanoseconds */
+        private final LongAdder sum = new LongAdder();
+        /** Longest time of a call in nanoseconds, only written when a call takes longer, which soon gets rare */
+        private final AtomicLong max = new AtomicLong();
+        
+        /**
+         * Constructor for a Recorder without any calls.
+         */
+        private Recorder() {
+        }
+        
+        /**
+         * Creates the given amount of LongAdders.
+         * 
+         * @param amount    int of LongAdders
+         * @return array of new LongAdders
+         */
+        private static LongAdder[] adders(int amount) {
+            LongAdder[] adders = new LongAdder[amount];
+            for (int i = 0; i < amount; i++) {
+                adders[i] = new LongAdder();
+            }
+            return adders;
+        }
+        
+        /**
+         * Records one call of the command.
+         * 
+         * @param type  Type    of the Result of the call
+         * @param nanos long    time of the call in nanoseconds
+         */
+        public void record(Type type, long nanos) {
+            long time = Math.max(nanos, 0);
+            this.buckets[bucket(time)].increment();
+            this.types[type.ordinal()].increment();
+            this.sum.add(time);
+            if (time > this.max.get()) {
+                this.max.accumulateAndGet(time, Math::max);
+            }
+        }
+        
+        /**
+         * Copies the counters, so the report is computed from values that do not change anymore.
+         * 
+         * @return a new Recorder with the current counters
+         */
+        private Recorder copy() {
+            Recorder copy = new Recorder();
+            copy.add(this);
+            return copy;
+        }
+        
+        /**
+         * Adds the counters of the other Recorder to the counters of this one.
+         * 
+         * @param other Recorder to add
+         */
+        private void add(Recorder other) {
+            for (int i = 0; i < BUCKETS; i++) {
+                long count = other.buckets[i].sum();
+                if (count != 0) {
+                    this.buckets[i].add(count);
+                }
+            }
+            for (int t = 0; t < this.types.length; t++) {
+                this.types[t].add(other.types[t].sum());
+            }
+            this.sum.add(other.sum.sum());
+            this.max.accumulateAndGet(other.max.get(), Math::max);
+        }
+        
+        /**
+         * Getter for the number of recorded calls.
+         * 
+         * @return number of calls
+         */
+        private long calls() {
+            long calls = 0;
+            for (LongAdder t : this.types) {
+                calls += t.sum();
+            }
+            return calls;
+        }
+        
+        /**
+         * Time that the given share of the calls did not take longer than, up to the width of its bucket.
+         * 
+         * @param share double  of the calls, between 0 and 1
+         * @return the time in nanoseconds, 0 if there have not been any calls
+         */
+        private long percentile(double share) {
+            long calls = 0;
+            for (LongAdder b : this.buckets) {
+                calls += b.sum();
+            }
+            long rank = (long) Math.ceil(share * calls);
+            long seen = 0;
+            for (int i = 0; i < BUCKETS; i++) {
+                seen += this.buckets[i].sum();
+                if (seen >= rank && seen > 0) {
+                    return Math.min(highestOf(i), this.max.get());
+                }
+            }
+            return 0;
+        }
+        
+        /**
+         * Appends the values of the line of the report.
+         * 
+         * @param out       StringBuilder   to append to
+         * @param seconds   double          since the statistics were created
+         */
+        private void appendTo(StringBuilder out, double seconds) {
+            long calls = calls();
+            double[] p = new double[PERCENTILES.length];
+            for (int k = 0; k < p.length; k++) {
+                p[k] = percentile(PERCENTILES[k]) / 1e3;
+            }
+            out.append(String.format(Locale.ROOT, LINE, calls, this.types[Type.SUCCESS.ordinal()].sum(),
+                    this.types[Type.FAILURE.ordinal()].sum(), this.types[Type.EXIT.ordinal()].sum(),
+                    this.types[Type.RESET.ordinal()].sum(), calls / seconds,
+                    calls == 0 ? 0 : this.sum.sum() / 1e3 / calls, p[0], p[1], p[2], this.max.get() / 1e3));
+        }
+    }
+}
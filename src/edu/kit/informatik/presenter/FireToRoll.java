@@ -12,12 +12,12 @@ import edu.kit.informatik.presenter.output.Result.Type;
  * @version 1.0
  */
 public class FireToRoll extends Command {
-
+    
     @Override
     public String getName() {
         return "fire-to-roll";
     }
-
+    
     @Override
     public Result execute(Game g, String[] input) {
         // test if game is over
@@ -50,7 +50,7 @@ public class FireToRoll extends Command {
             return r;
         }
         // start next round (else the commands for the round cannot be called again!)
-        g.getPlayerController().startNextRound();
+        g.startNextRound();
         // return the output ("OK" or "lose")
         return r;
     }
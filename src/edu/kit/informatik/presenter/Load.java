@@ -0,0 +1,60 @@
+package edu.kit.informatik.presenter;
+
+import java.io.IOException;
+import java.nio.file.NoSuchFileException;
+import java.util.function.Consumer;
+
+import edu.kit.informatik.model.Game;
+import edu.kit.informatik.model.GameFile;
+import edu.kit.informatik.presenter.input.Patterns;
+import edu.kit.informatik.presenter.output.ErrorMessages;
+import edu.kit.informatik.presenter.output.Result;
+import edu.kit.informatik.presenter.output.Result.Type;
+
+/**
+ * Command class for loading a game that has been saved with the save command, the loaded game replaces the current
+ * one and goes on where it was saved.
+ * 
+ * @author Julian Dieskau
+ * @version 1.0
+ */
+public class Load extends Command {
+    /** Replaces the current game by the loaded one */
+    private final Consumer<Game> replace;
+    
+    /**
+     * Constructor for the command that hands the loaded game over to replace the current one.
+     * 
+     * @param replace   Consumer<Game>  that replaces the current game, usually the session's
+     */
+    public Load(Consumer<Game> replace) {
+        this.replace = replace;
+    }
+    
+    @Override
+    public String getName() {
+        return "load";
+    }
+    
+    @Override
+    public Result execute(Game g, String[] input) {
+        // also usable when game is already over and between rounds
+        if (input.length != 2) {
+            return new Result(String.format(ErrorMessages.INVALID_AMOUNT_OF_ARGUMENTS, input.length, 2), Type.FAILURE);
+        }
+        if (!Patterns.isFileName(input[1])) {
+            return new Result(ErrorMessages.INVALID_FILE_NAME, Type.FAILURE);
+        }
+        Game loaded;
+        try {
+            loaded = GameFile.load(Save.path(input[1]));
+        } catch (NoSuchFileException e) {
+            return new Result(String.format(ErrorMessages.SAVED_GAME_NONEXISTENT, input[1]), Type.FAILURE);
+        } catch (IOException e) {
+            return new Result(String.format(ErrorMessages.CANNOT_LOAD, input[1], e.getMessage()), Type.FAILURE);
+        }
+        this.replace.accept(loaded);
+        return Result.OK;
+    }
+
+}
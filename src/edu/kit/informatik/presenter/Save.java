@@ -0,0 +1,65 @@
+package edu.kit.informatik.presenter;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+
+import edu.kit.informatik.model.Game;
+import edu.kit.informatik.model.GameFile;
+import edu.kit.informatik.presenter.input.Patterns;
+import edu.kit.informatik.presenter.output.ErrorMessages;
+import edu.kit.informatik.presenter.output.Result;
+import edu.kit.informatik.presenter.output.Result.Type;
+
+/**
+ * Command class for saving the game to a file, so it can be loaded again with the load command.
+ * A saved game is given by its name, the file is the name with the suffix .save in the directory of the saved games,
+ * which is saves in the working directory or the one set by the system property edu.kit.informatik.saves. The
+ * directory is created by the first save. Clients of the Server can therefore only write and read saved games, not
+ * other files of the working directory or the logs of the sessions.
+ * 
+ * @author Julian Dieskau
+ * @version 1.0
+ */
+public class Save extends Command {
+    /** Directory of the saved games */
+    private static final Path DIRECTORY = Paths.get(System.getProperty("edu.kit.informatik.saves", "saves"));
+    /** Suffix of the files of the saved games, so their names cannot be the ones of other files */
+    private static final String SUFFIX = ".save";
+    
+    @Override
+    public String getName() {
+        return "save";
+    }
+    
+    @Override
+    public Result execute(Game g, String[] input) {
+        // also usable when game is already over and between rounds
+        if (input.length != 2) {
+            return new Result(String.format(ErrorMessages.INVALID_AMOUNT_OF_ARGUMENTS, input.length, 2), Type.FAILURE);
+        }
+        if (!Patterns.isFileName(input[1])) {
+            return new Result(ErrorMessages.INVALID_FILE_NAME, Type.FAILURE);
+        }
+        try {
+            Files.createDirectories(DIRECTORY);
+            GameFile.save(g, path(input[1]));
+        } catch (IOException e) {
+            return new Result(String.format(ErrorMessages.CANNOT_SAVE, input[1], e.getMessage()), Type.FAILURE);
+        }
+        return Result.OK;
+    }
+    
+    /**
+     * Gives the file of the saved game with the given name in the directory of the saved games, the name with
+     * the suffix of saved games.
+     * 
+     * @param name  String  valid name of the saved game
+     * @return Path of the file
+     */
+    static Path path(String name) {
+        return DIRECTORY.resolve(name + SUFFIX);
+    }
+
+}
@@ -13,12 +13,12 @@ import edu.kit.informatik.presenter.output.Result.Type;
  * @version 1.0
  */
 public class ShowBoard extends Command {
-
+    
     @Override
     public String getName() {
         return "show-board";
     }
-
+    
     @Override
     public Result execute(Game g, String[] input) {
         // also usable when game is already over
@@ -27,19 +27,18 @@ public class ShowBoard extends Command {
             return new Result(String.format(ErrorMessages.INVALID_AMOUNT_OF_ARGUMENTS, input.length, 1), Type.FAILURE);
         }
         // process the output from the board object
+        // every square is one character followed by a comma or a line break, except for the last one
         Board b = g.getBoard();
-        String result = "";
+        int columns = b.getColumns();
+        char[] result = new char[b.getRows() * columns * 2 - 1];
+        int k = 0;
         for (int i = 0; i < b.getRows(); i++) {
-            for (int j = 0; j < b.getColumns(); j++) {
-                //result += b.getSquareAtPosition(i, j).printSquare();
-                result += b.getSquareAtPosition(i, j).strShowBoard();
-                if (j < b.getColumns() - 1) {
-                    result += ",";
+            for (int j = 0; j < columns; j++) {
+                result[k++] = b.getSquareAtPosition(i, j).charShowBoard();
+                if (k < result.length) {
+                    result[k++] = j < columns - 1 ? ',' : '\n';
                 }
             }
-            if (i < b.getRows() - 1) {
-                result += "\n";
-            }
         }
         return new Result(result, Type.SUCCESS);
     }
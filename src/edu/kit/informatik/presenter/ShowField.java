@@ -18,12 +18,12 @@ import edu.kit.informatik.presenter.output.Result.Type;
  * @version 1.0
  */
 public class ShowField extends Command {
-
+    
     @Override
     public String getName() {
         return "show-field";
     }
-
+    
     @Override
     public Result execute(Game g, String[] input) {
         // usable even if game is already over
@@ -36,9 +36,8 @@ public class ShowField extends Command {
         if (r.getType().equals(Type.FAILURE)) {
             return r;
         }
-        String[] s = r.getMessage().split(",", 2);
-        int i = Integer.valueOf(s[0]);
-        int j = Integer.valueOf(s[1]);
+        int i = r.getFirst();
+        int j = r.getSecond();
         
         // Put together the output-String
         Square square = g.getBoard().getSquareAtPosition(i, j);
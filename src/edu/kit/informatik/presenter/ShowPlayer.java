@@ -5,9 +5,7 @@ import java.util.List;
 import java.util.stream.Collectors;
 
 import edu.kit.informatik.model.Game;
-import edu.kit.informatik.model.objects.BoardObject;
 import edu.kit.informatik.model.objects.FireEngine;
-import edu.kit.informatik.presenter.input.Patterns;
 import edu.kit.informatik.presenter.output.ErrorMessages;
 import edu.kit.informatik.presenter.output.Result;
 import edu.kit.informatik.presenter.output.Result.Type;
@@ -39,24 +37,12 @@ public class ShowPlayer extends Command {
         String out = "";
         // Add player name and reputation points
         out += g.currentPlayer().getID().toString() + "," + String.valueOf(g.currentPlayer().reputation());
-        // Take all FireEngines out of the board
+        // Take all FireEngines of the current player out of the board
+        char player = g.currentPlayer().getID().toChar();
         List<FireEngine> list = new ArrayList<>();
-        for (int i = 0; i < g.getBoard().getRows(); i++) {
-            for (int j = 0; j < g.getBoard().getColumns(); j++) {
-                List<BoardObject> objects = g.getBoard().getSquareAtPosition(i, j).getObjects();
-                for (BoardObject b : objects) {
-                    if (b.getName().matches(Patterns.IS_FIRE_ENGINE)) {
-                        char[] nameChars = b.getName().toCharArray();
-                        String player = String.valueOf(nameChars[0]);
-                        if (player.matches(g.currentPlayer().getID().toString())) {
-                            try {
-                                list.add((FireEngine) b);
-                            } catch (ClassCastException c) {
-                                // do nothing and continue, only need the FireEngines
-                            }
-                        }
-                    }
-                }
+        for (FireEngine f : g.getBoard().getFireEngines()) {
+            if (f.getOwner() == player) {
+                list.add(f);
             }
         }
         // Add line for line the information for all the players fire engines by
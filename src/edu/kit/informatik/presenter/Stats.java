@@ -0,0 +1,41 @@
+package edu.kit.informatik.presenter;
+
+import edu.kit.informatik.model.Game;
+import edu.kit.informatik.presenter.output.ErrorMessages;
+import edu.kit.informatik.presenter.output.Result;
+import edu.kit.informatik.presenter.output.Result.Type;
+
+/**
+ * Command class for printing the latency histograms and counters of all commands to the console.
+ * 
+ * @author Julian Dieskau
+ * @version 1.0
+ */
+public class Stats extends Command {
+    /** Statistics that are printed */
+    private final CommandStats stats;
+    
+    /**
+     * Constructor for the command that prints the given statistics.
+     * 
+     * @param stats CommandStats    that the commands are recorded in
+     */
+    public Stats(CommandStats stats) {
+        this.stats = stats;
+    }
+    
+    @Override
+    public String getName() {
+        return "stats";
+    }
+    
+    @Override
+    public Result execute(Game g, String[] input) {
+        // also usable when game is already over
+        if (input.length != 1) {
+            return new Result(String.format(ErrorMessages.INVALID_AMOUNT_OF_ARGUMENTS, input.length, 1), Type.FAILURE);
+        }
+        return new Result(this.stats.report(), Type.SUCCESS);
+    }
+
+}
@@ -1,45 +1,56 @@
 package edu.kit.informatik.presenter.input;
 
-import java.util.List;
-
-import edu.kit.informatik.model.Square;
+import edu.kit.informatik.model.Board;
+import edu.kit.informatik.model.BoardSnapshot;
 
 /**
- * Class that holds the parsed command line arguments and the case of failure in the ArgumentType,
+ * Class that holds the Board parsed from the command line arguments and the case of failure in the ArgumentType,
  * if needed, so the program exits when given incorrectly. Also holds a message in case of failure
  * so that it can be ouput as an error message to the console.
+ * Instances cannot be changed after they have been created, the Board is held as a BoardSnapshot and every call
+ * of getBoard() restores a new Board from it.
  * 
  * @author Julian Dieskau
  * @version 1.0
  */
-public class Arguments {
+public final class Arguments {
     
-    private List<Square> squares;
-    private String message;
-    private ArgumentType type;
+    private final BoardSnapshot board;
+    private final String message;
+    private final ArgumentType type;
     
     /**
-     * Constructor that gives the instance of this class the List of Squares as well as if the 
-     * arguments were correct or not. Also sets the type to incorrect if the objects are empty or null.
+     * Constructor that gives the instance of this class the parsed Board as well as if the 
+     * arguments were correct or not.
      * 
-     * @param objects   List<Square>        Squares that should be initialized and have been parsed with their object
+     * @param board     BoardSnapshot       Board with all squares and their objects that have been parsed
      * @param message   String              message in case of type == INCORRECT
      * @param type      ArgumentType        Successfulness of the parsing-operation
      */
-    public Arguments(List<Square> objects, String message, ArgumentType type) {
-        this.squares = objects; 
+    public Arguments(BoardSnapshot board, String message, ArgumentType type) {
+        this.board = board;
         this.type = type;
         this.message = message;
     }
     
     /**
-     * Getter for the list of Squares that are set on the board.
+     * Restores a new Board with all Squares set on it from the parsed board.
+     * @apiNote Only use when getType().equals(ArgumentType.CORRECT).
+     * 
+     * @return Board    a new board as it was parsed
+     */
+    public Board getBoard() {
+        return new Board(this.board);
+    }
+    
+    /**
+     * Getter for the snapshot of the parsed board, to restore more boards from it later.
      * @apiNote Only use when getType().equals(ArgumentType.CORRECT).
      * 
-     * @return List<BoardObject>    list of all Squares that are carried within the object
+     * @return BoardSnapshot    the parsed board that is carried within the object
      */
-    public List<Square> getList() {
-        return this.squares;
+    public BoardSnapshot getSnapshot() {
+        return this.board;
     }
     
     /**
@@ -1,11 +1,9 @@
 package edu.kit.informatik.presenter.input;
 
-import java.util.ArrayList;
-import java.util.List;
-
-import edu.kit.informatik.Application;
+import edu.kit.informatik.model.Board;
+import edu.kit.informatik.model.BoardSnapshot;
+import edu.kit.informatik.model.FlightEvents.ParseEvent;
 import edu.kit.informatik.model.Game;
-import edu.kit.informatik.model.Square;
 import edu.kit.informatik.model.Square.State;
 import edu.kit.informatik.model.objects.FireEngine;
 import edu.kit.informatik.model.objects.FireStation;
@@ -24,9 +22,6 @@ import edu.kit.informatik.presenter.output.Result.Type;
  * @version 1.0
  */
 public final class Parser {
-
-    private static int lightly = 0;
-    private static int heavily = 0;
     
     /**
      * Utility class, therefore not wanted.
@@ -35,6 +30,13 @@ public final class Parser {
         throw new IllegalAccessError("Do not try to instantiate this class!");
     }
     
+    /**
+     * Tests the amount of command line arguments, the amount of comma-separated values in them and the size of the
+     * board that is given by the first two values. The values are only counted, not split into Strings.
+     * 
+     * @param args  String[]    command line arguments (should be one, with commas separated)
+     * @return      Arguments   with ArgumentType INCORRECT and the error message or CORRECT if the tests passed
+     */
     private static Arguments testArgs(String[] args) {
         if (args == null || args.length == 0) {
             return new Arguments(null, ArgumentMessages.NO_ARGUMENTS_GIVEN, ArgumentType.INCORRECT);
@@ -45,10 +47,15 @@ public final class Parser {
         
         // number of arguments is correct <=> args.length == 1
         String arg = args[0];
-        // split arg at every comma, at least 5x5 board, plus m and n as arguments => 27 or more args
-        String[] split = arg.split(",", -1);
-        if (split.length < 2) {
-            return new Arguments(null, String.format(ArgumentMessages.WRONG_ARG_AMOUNT, "at least 2", split.length),
+        // count the values separated by commas, at least 5x5 board, plus m and n as arguments => 27 or more args
+        int amount = 1;
+        for (int k = 0; k < arg.length(); k++) {
+            if (arg.charAt(k) == ',') {
+                amount++;
+            }
+        }
+        if (amount < 2) {
+            return new Arguments(null, String.format(ArgumentMessages.WRONG_ARG_AMOUNT, "at least 2", amount),
                     ArgumentType.INCORRECT);
         }
         
@@ -56,8 +63,8 @@ public final class Parser {
         int m; 
         int n;
         try {
-            m = Integer.parseInt(split[0]);
-            n = Integer.parseInt(split[1]);
+            m = parseRows(arg);
+            n = parseColumns(arg);
         } catch (NumberFormatException e) {
             return new Arguments(null, ArgumentMessages.WRONG_FIRST_TWO_ARGS, ArgumentType.INCORRECT);
         }
@@ -77,175 +84,259 @@ public final class Parser {
             return new Arguments(null, String.format(ArgumentMessages.EVEN_COLUMNS_AMOUNT, n), ArgumentType.INCORRECT);
         }
         
-        // try to parse every other String from the String[] split into the List<BoardObject>
-        if (split.length != m * n + 2) {
-            return new Arguments(null, String.format(ArgumentMessages.WRONG_ARG_AMOUNT, m * n + 2, split.length), 
+        // every other value is one square of the board
+        if (amount != m * n + 2) {
+            return new Arguments(null, String.format(ArgumentMessages.WRONG_ARG_AMOUNT, m * n + 2, amount), 
                     ArgumentType.INCORRECT);
         }
-        return new Arguments(null, "was", ArgumentType.CORRECT);
+        return new Arguments(null, "", ArgumentType.CORRECT);
     }
     
-    private static Arguments testRest(String next, int i, int m, int n, List<Square> list) {
-        if (i == 2 + ((n + 1) / 2) - 1 // Top middle
-                || i == 2 + m * n - ((n + 1) / 2) // Bottom middle
-                || i == 2 + ((m - 1) / 2) * n // Left middle
-                || i == 2 + ((m + 1) / 2) * n - 1) { // Right middle
-            if (next.matches(Patterns.IS_LAKE)) {
-                list.add(new Square(State.DRY, new Lake(), false));
-            } else {
-                return new Arguments(null, String.format(ArgumentMessages.ARGUMENT_WRONG, next, Patterns.IS_LAKE),
-                        ArgumentType.INCORRECT);
-            }
-        // All other squares have to be forest squares without board-objects on them
-        } else {
-            if (next.matches(Patterns.IS_FOREST)) {
-                switch (next) {
-                    case "d":
-                        list.add(new Square(State.DRY));
-                        break;
-                    case "w":
-                        list.add(new Square(State.WET));
-                        break;
-                    case "+":
-                        list.add(new Square(State.SPARKING));
-                        lightly += 1;
-                        break;
-                    case "*":
-                        list.add(new Square(State.BURNING));
-                        heavily += 1;
-                        break;
-                    default:
-                        // if the tests beforehand are correct this should never be reached, but to avoid mistakes:
-                        return new Arguments(null, String.format(ArgumentMessages.ARGUMENT_WRONG, next, 
-                                Patterns.IS_FOREST), ArgumentType.INCORRECT);
-                } 
-            } else {
-                return new Arguments(null, String.format(ArgumentMessages.ARGUMENT_WRONG, next, 
-                        Patterns.IS_FOREST), ArgumentType.INCORRECT);
-            }
-        }
-        return new Arguments(null, String.valueOf(lightly + heavily), ArgumentType.CORRECT);
+    /**
+     * Parses the first value of the argument, the number of rows, without copying it.
+     * The argument needs to contain at least one comma.
+     * 
+     * @param arg   String  the comma-separated command line argument
+     * @return number of rows
+     * @throws NumberFormatException if the value is not an integer
+     */
+    private static int parseRows(String arg) {
+        return Integer.parseInt(arg, 0, arg.indexOf(','), 10);
     }
     
-    private static Arguments firstTest(String next, int i, int m, int n, List<Square> list) {
-        // Test the squares for the Players -> Add FireStations
-        if (i == 2) {
+    /**
+     * Parses the second value of the argument, the number of columns, without copying it.
+     * The argument needs to contain at least one comma.
+     * 
+     * @param arg   String  the comma-separated command line argument
+     * @return number of columns
+     * @throws NumberFormatException if the value is not an integer
+     */
+    private static int parseColumns(String arg) {
+        int start = arg.indexOf(',') + 1;
+        int end = arg.indexOf(',', start);
+        return Integer.parseInt(arg, start, end < 0 ? arg.length() : end, 10);
+    }
+    
+    /**
+     * Gives the name of the fire station that has to be at row i and column j: they are in the corners.
+     * 
+     * @param i row of the square
+     * @param j column of the square
+     * @param m number of rows
+     * @param n number of columns
+     * @return name of the fire station or <i>null</i> if there is none at that position
+     */
+    private static String fireStationAt(int i, int j, int m, int n) {
+        if (i == 0 && j == 0) {
             // board[0][0]: Always Player A
-            if (next.matches(Patterns.IS_PLAYER_A)) {
-                list.add(new Square(State.DRY, new FireStation(Patterns.IS_PLAYER_A), false));
-            } else {
-                return new Arguments(null, String.format(ArgumentMessages.ARGUMENT_WRONG, next, 
-                        Patterns.IS_PLAYER_A), ArgumentType.INCORRECT);
-            }
-        } else if (i == 2 + n - 1) {
+            return Patterns.IS_PLAYER_A;
+        } else if (i == 0 && j == n - 1) {
             // board[0][n-1]: Always Player D
-            if (next.matches(Patterns.IS_PLAYER_D)) {
-                list.add(new Square(State.DRY, new FireStation(Patterns.IS_PLAYER_D), false));
-            } else {
-                return new Arguments(null, String.format(ArgumentMessages.ARGUMENT_WRONG, next, 
-                        Patterns.IS_PLAYER_D), ArgumentType.INCORRECT);
-            }
-        } else if (i == 2 + m * n - 1) {
+            return Patterns.IS_PLAYER_D;
+        } else if (i == m - 1 && j == n - 1) {
             // board[m-1][n-1]: Always Player B
-            if (next.matches(Patterns.IS_PLAYER_B)) {
-                list.add(new Square(State.DRY, new FireStation(Patterns.IS_PLAYER_B), false));
-            } else {
-                return new Arguments(null, String.format(ArgumentMessages.ARGUMENT_WRONG, next, 
-                        Patterns.IS_PLAYER_B), ArgumentType.INCORRECT);
-            }
-        } else if (i == 2 + (m - 1) * n) {
+            return Patterns.IS_PLAYER_B;
+        } else if (i == m - 1 && j == 0) {
             // board[m-1][0]: Always Player C
-            if (next.matches(Patterns.IS_PLAYER_C)) {
-                list.add(new Square(State.DRY, new FireStation(Patterns.IS_PLAYER_C), false));
-            } else {
-                return new Arguments(null, String.format(ArgumentMessages.ARGUMENT_WRONG, next, 
-                        Patterns.IS_PLAYER_C), ArgumentType.INCORRECT);
-            }
-        // The first fire engine for each player needs to be positioned on the diagonal square
-        //      next to each of their FireStations.
-        // add a dry square and the fire engine on top of that square
-        } else if (i == 2 + n + 1) {
-            // board[1][2] == diagonal for Player A
-            if (next.matches(Patterns.IS_PLAYER_A + "0")) {
-                list.add(new Square(State.DRY, new FireEngine("A0"), true));
-            } else {
-                return new Arguments(null, String.format(ArgumentMessages.ARGUMENT_WRONG, next, "A0"),
-                        ArgumentType.INCORRECT);
+            return Patterns.IS_PLAYER_C;
+        }
+        return null;
+    }
+    
+    /**
+     * Gives the name of the first fire engine that has to be at row i and column j: they are positioned on the
+     * diagonal square next to the fire station of their player.
+     * 
+     * @param i row of the square
+     * @param j column of the square
+     * @param m number of rows
+     * @param n number of columns
+     * @return name of the fire engine or <i>null</i> if there is none at that position
+     */
+    private static String firstFireEngineAt(int i, int j, int m, int n) {
+        if (i == 1 && j == 1) {
+            return Patterns.IS_PLAYER_A + "0";
+        } else if (i == 1 && j == n - 2) {
+            return Patterns.IS_PLAYER_D + "0";
+        } else if (i == m - 2 && j == 1) {
+            return Patterns.IS_PLAYER_C + "0";
+        } else if (i == m - 2 && j == n - 2) {
+            return Patterns.IS_PLAYER_B + "0";
+        }
+        return null;
+    }
+    
+    /**
+     * Tests if there has to be a lake at row i and column j: they are in the middle of every side of the board.
+     * 
+     * @param i row of the square
+     * @param j column of the square
+     * @param m number of rows
+     * @param n number of columns
+     * @return {@value true} if there has to be a lake
+     */
+    private static boolean isLakeAt(int i, int j, int m, int n) {
+        return ((i == 0 || i == m - 1) && j == (n - 1) / 2) // Top and bottom middle
+                || ((j == 0 || j == n - 1) && i == (m - 1) / 2); // Left and right middle
+    }
+    
+    /**
+     * Tests if the value between start and end of the argument is the expected String, without copying it.
+     * 
+     * @param arg       String  the comma-separated command line argument
+     * @param start     index of the first character of the value
+     * @param end       index after the last character of the value
+     * @param expected  String the value has to be
+     * @return {@value true} if the value is the expected String
+     */
+    private static boolean valueEquals(String arg, int start, int end, String expected) {
+        return end - start == expected.length() && arg.regionMatches(start, expected, 0, expected.length());
+    }
+    
+    /**
+     * Creates the Arguments for the error that the value between start and end of the argument does not match
+     * the pattern. Only in that case the value is copied into its own String.
+     * 
+     * @param arg       String  the comma-separated command line argument
+     * @param start     index of the first character of the value
+     * @param end       index after the last character of the value
+     * @param pattern   String the value should have matched
+     * @return Arguments with ArgumentType INCORRECT and the error message
+     */
+    private static Arguments wrongValue(String arg, int start, int end, String pattern) {
+        return new Arguments(null, String.format(ArgumentMessages.ARGUMENT_WRONG, arg.substring(start, end), pattern),
+                ArgumentType.INCORRECT);
+    }
+    
+    /**
+     * Tests the value between start and end of the argument for the square at row i and column j and sets the
+     * square on the board. Fire stations, the first fire engines and lakes have fixed positions, all other squares
+     * have to be forest squares without board-objects on them.
+     * 
+     * @param arg   String  the comma-separated command line argument
+     * @param start index of the first character of the value
+     * @param end   index after the last character of the value
+     * @param i     row of the square
+     * @param j     column of the square
+     * @param board Board to set the square on
+     * @return Arguments with ArgumentType INCORRECT and the error message or <i>null</i> if the value is correct
+     */
+    private static Arguments parseSquare(String arg, int start, int end, int i, int j, Board board) {
+        int m = board.getRows();
+        int n = board.getColumns();
+        // Test the squares for the Players -> Add FireStations
+        String station = fireStationAt(i, j, m, n);
+        if (station != null) {
+            if (!valueEquals(arg, start, end, station)) {
+                return wrongValue(arg, start, end, station);
             }
-        } else if (i == 2 + n + (n - 2)) {
-            // board[1][n-2] == diagonal for Player D
-            if (next.matches(Patterns.IS_PLAYER_D + "0")) {
-                list.add(new Square(State.DRY, new FireEngine("D0"), true));
-            } else {
-                return new Arguments(null, String.format(ArgumentMessages.ARGUMENT_WRONG, next, "D0"),
-                        ArgumentType.INCORRECT);
+            board.initSquare(i, j, State.DRY, false, new FireStation(station));
+            return null;
+        }
+        // add a dry square and the first fire engine on top of that square
+        String engine = firstFireEngineAt(i, j, m, n);
+        if (engine != null) {
+            if (!valueEquals(arg, start, end, engine)) {
+                return wrongValue(arg, start, end, engine);
             }
-        } else if (i == 2 + n * (m - 2) + 1) {
-            // board[m-2][1] == diagonal for player C
-            if (next.matches(Patterns.IS_PLAYER_C + "0")) {
-                list.add(new Square(State.DRY, new FireEngine("C0"), true));
-            } else {
-                return new Arguments(null, String.format(ArgumentMessages.ARGUMENT_WRONG, next, "C0"),
-                        ArgumentType.INCORRECT);
+            board.initSquare(i, j, State.DRY, true, new FireEngine(engine));
+            return null;
+        }
+        if (isLakeAt(i, j, m, n)) {
+            if (!valueEquals(arg, start, end, Patterns.IS_LAKE)) {
+                return wrongValue(arg, start, end, Patterns.IS_LAKE);
             }
-        } else if (i == 2 + n * (m - 1) - 2) {
-            // board[m-2][n-2] == diagonal for player B
-            if (next.matches(Patterns.IS_PLAYER_B + "0")) {
-                list.add(new Square(State.DRY, new FireEngine("B0"), true));
-            } else {
-                return new Arguments(null, String.format(ArgumentMessages.ARGUMENT_WRONG, next, "B0"),
-                        ArgumentType.INCORRECT);
+            board.initSquare(i, j, State.DRY, false, new Lake());
+            return null;
+        }
+        // All other squares have to be forest squares
+        if (end - start == 1) {
+            switch (arg.charAt(start)) {
+                case 'd':
+                    board.initSquare(i, j, State.DRY, true, null);
+                    return null;
+                case 'w':
+                    board.initSquare(i, j, State.WET, true, null);
+                    return null;
+                case '+':
+                    board.initSquare(i, j, State.SPARKING, true, null);
+                    return null;
+                case '*':
+                    board.initSquare(i, j, State.BURNING, true, null);
+                    return null;
+                default:
+                    break;
             }
-        } else {
-            return new Arguments(null, "correct", ArgumentType.CORRECT);
         }
-        return new Arguments(null, "lol", ArgumentType.CORRECT);
+        return wrongValue(arg, start, end, Patterns.IS_FOREST);
     }
     
     /**
      * Parses the command line arguments to the wanted format.
+     * Walks through the comma-separated values once without splitting them and sets the squares on the board
+     * directly. Does not keep any state between calls, so it can be called again or from multiple threads at once.
+     * Parsing is a ParseEvent for the Java Flight Recorder.
      * 
      * @param args  String[]    command line arguments (should be one, with commas separated)
-     * @return      Arguments   List<BoardObject> as well as ArgumentType inside
+     * @return      Arguments   snapshot of the Board with all squares set as well as ArgumentType inside
      */
     public static Arguments parseArgs(String[] args) {
-        List<Square> list = new ArrayList<>();
-        
+        ParseEvent event = new ParseEvent();
+        event.begin();
+        Arguments a = parse(args);
+        event.end();
+        if (event.shouldCommit()) {
+            BoardSnapshot board = a.getSnapshot();
+            event.set(board == null ? 0 : board.getRows(), board == null ? 0 : board.getColumns(),
+                    args == null || args.length == 0 ? 0 : args[0].length(), a.getType().name());
+            event.commit();
+        }
+        return a;
+    }
+    
+    /**
+     * Parses the command line arguments like parseArgs() does.
+     * 
+     * @param args  String[]    command line arguments (should be one, with commas separated)
+     * @return      Arguments   snapshot of the Board with all squares set as well as ArgumentType inside
+     */
+    private static Arguments parse(String[] args) {
         Arguments a = testArgs(args);
         if (a.getType() == ArgumentType.INCORRECT) {
             return a;
         }
         
-        // try to catch the number of rows m and number of columns n from the first two arguments
-        String[] split = args[0].split(",", -1);
-        int m = Integer.parseInt(split[0]);
-        int n = Integer.parseInt(split[1]);
+        // the number of rows m and number of columns n have been tested to be correct
+        String arg = args[0];
+        int m = parseRows(arg);
+        int n = parseColumns(arg);
+        Board board = new Board(m, n);
         
-        // iterate through all arguments from the comma-separated-list:
-        for (int i = 2; i < split.length; i++) {
-            String next = split[i];
-            // Test the squares for the Players -> Add FireStations
-            Arguments first = firstTest(next, i, m, n, list);
-            if (first.getType() == ArgumentType.INCORRECT) {
-                return first;
-            } else {
-                Arguments rest = testRest(next, i, m, n, list);
-                if (rest.getType() == ArgumentType.INCORRECT) {
-                    return rest;
+        // iterate through all values after m and n from the comma-separated-list:
+        int start = arg.indexOf(',', arg.indexOf(',') + 1) + 1;
+        for (int i = 0; i < m; i++) {
+            for (int j = 0; j < n; j++) {
+                int end = arg.indexOf(',', start);
+                if (end < 0) {
+                    end = arg.length();
                 }
+                Arguments square = parseSquare(arg, start, end, i, j, board);
+                if (square != null) {
+                    return square;
+                }
+                start = end + 1;
             }
         }
         // test if there is no burning square
-        if (lightly == 0) {
+        if (board.countForestSquares(State.SPARKING) == 0) {
             return new Arguments(null, ArgumentMessages.NO_SPARKING_SQUARE, ArgumentType.INCORRECT);
-        } else if (heavily == 0) {
+        } else if (board.countForestSquares(State.BURNING) == 0) {
             return new Arguments(null, ArgumentMessages.NO_BURNING_SQUARE, ArgumentType.INCORRECT);
         } 
         
-        // all tests have been passed, return the correct list:
-        Application.setBoardConstants(m, n);
-        
-        return new Arguments(list, "", ArgumentType.CORRECT);
+        // all tests have been passed, return the correct board:
+        return new Arguments(board.snapshot(), "", ArgumentType.CORRECT);
     }
     
     /**
@@ -277,7 +368,7 @@ public final class Parser {
             return new Result(String.format(ErrorMessages.COLUMN_OUT_OF_BOUNDS, i, g.getBoard().getColumns()),
                     Type.FAILURE);
         }
-        return new Result(String.valueOf(i) + "," + String.valueOf(j), Type.SUCCESS);
+        return Result.position(i, j);
     }
     
     /**
@@ -294,7 +385,7 @@ public final class Parser {
             return new Result(String.format(ErrorMessages.INVALID_AMOUNT_OF_ARGUMENTS, split.length, 2), Type.FAILURE);
         }
         // test if split[0] has the correct form
-        if (!split[0].matches(Patterns.IS_FIRE_ENGINE)) {
+        if (!Patterns.isFireEngine(split[0])) {
             return new Result(ErrorMessages.FIRE_ENGINE_ID_INVALID, Type.FAILURE);
         }
         
@@ -304,6 +395,6 @@ public final class Parser {
             return pos;
         }
         // return the success
-        return new Result("", Type.SUCCESS);
+        return Result.PASSED;
     }
 }
@@ -24,4 +24,48 @@ public class Patterns {
     public static final String IS_PLAYER_C = "C";
     /** Player D String, also symbolizes the fire station of this player */
     public static final String IS_PLAYER_D = "D";
+    
+    // for commands:
+    /** Pattern for the names of saved games, plain file names that cannot leave their directory */
+    public static final String IS_FILE_NAME = "[A-Za-z0-9_-][A-Za-z0-9_.-]*";
+    
+    /**
+     * Tests if the given String is a valid id of a fire engine, so if it matches IS_FIRE_ENGINE, by looking
+     * at its characters.
+     * 
+     * @param s String to test
+     * @return {@value true} if s is a valid fire engine id
+     */
+    public static boolean isFireEngine(String s) {
+        if (s.length() < 2 || s.charAt(0) < 'A' || s.charAt(0) > 'D') {
+            return false;
+        }
+        for (int i = 1; i < s.length(); i++) {
+            if (s.charAt(i) < '0' || s.charAt(i) > '9') {
+                return false;
+            }
+        }
+        return true;
+    }
+    
+    /**
+     * Tests if the given String is a valid name of a saved game, so if it matches IS_FILE_NAME, by looking at its
+     * characters.
+     * 
+     * @param s String to test
+     * @return {@value true} if s is a valid name of a saved game
+     */
+    public static boolean isFileName(String s) {
+        if (s.isEmpty() || s.charAt(0) == '.') {
+            return false;
+        }
+        for (int i = 0; i < s.length(); i++) {
+            char c = s.charAt(i);
+            if (!(c >= 'A' && c <= 'Z' || c >= 'a' && c <= 'z' || c >= '0' && c <= '9' || c == '_' || c == '-'
+                    || c == '.')) {
+                return false;
+            }
+        }
+        return true;
+    }
 }
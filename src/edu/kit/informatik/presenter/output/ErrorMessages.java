@@ -106,6 +106,19 @@ public class ErrorMessages {
     /** When the argument for fire-to-roll is not in the valid range of integers: */
     public static final String NOT_IN_DICE_INT_RANGE
         = "1 <= %s <= 6 is not true! Please enter a valid dice result in that range.";
-    
-    
+    /** When the name of a saved game is not a plain file name: */
+    public static final String INVALID_FILE_NAME
+        = "the name of a saved game may only contain letters, digits, \"-\", \"_\" and \".\" and must not start "
+                + "with \".\"!";
+    /** When there is no saved game with the given name: */
+    public static final String SAVED_GAME_NONEXISTENT
+        = "there is no saved game with the name \"%s\".";
+    /** When the game cannot be written to the file: */
+    public static final String CANNOT_SAVE
+        = "the game could not be saved as \"%s\": %s";
+    /** When the file cannot be read or does not hold a saved game: */
+    public static final String CANNOT_LOAD
+        = "the game could not be loaded from \"%s\": %s";
+
+
 }
@@ -4,14 +4,44 @@ package edu.kit.informatik.presenter.output;
  * Class that provides a simple type to use to pass on messages in form as strings as well as
  * if an action was successful or not and therefore allows the receiving function to know,
  * how to process that message.
+ * <br><br>
+ * Results of successful operations that only consist of numbers are created by number(), position() and
+ * prefixed(). They carry the numbers themselves and only put their message together when getMessage() is called,
+ * which is usually only when it is printed. Results that never change are shared: OK, PASSED, QUIT and the numbers
+ * up to 127.
  * 
  * @author Julian Dieskau
  * @version 1.0
  */
 public class Result {
-
-    private String message;
-    private Type type;
+    /** Successful Result with the message "OK" */
+    public static final Result OK = new Result("OK", Type.SUCCESS);
+    /** Successful Result without a message, for checks that have passed */
+    public static final Result PASSED = new Result("", Type.SUCCESS);
+    /** Result that closes the program */
+    public static final Result QUIT = new Result("", Type.EXIT);
+    /** Amount of numbers, starting at 0, that have a shared Result */
+    private static final int CACHED_NUMBERS = 128;
+    /** Shared Results of the numbers 0 to CACHED_NUMBERS - 1 */
+    private static final Result[] NUMBERS = new Result[CACHED_NUMBERS];
+    
+    static {
+        for (int k = 0; k < CACHED_NUMBERS; k++) {
+            NUMBERS[k] = new Result(String.valueOf(k), Form.NUMBER, null, k, 0);
+        }
+    }
+    
+    private final String message;
+    private final char[] chars;
+    private final Type type;
+    /** How the message is put together from the prefix and the numbers, if it was not given */
+    private final Form form;
+    /** Text in front of the first number */
+    private final String prefix;
+    /** First number the message consists of */
+    private final int first;
+    /** Second number the message consists of */
+    private final int second;
     
     /**
      * Constructor that is used to pass the message and successfulness of an operation in the type,
@@ -21,17 +51,139 @@ public class Result {
      * @param t         Type    SUCCESS, FAILURE, EXIT as "successfulness" of the operation
      */
     public Result(String message, Type t) {
+        this(message, null, t);
+    }
+    
+    /**
+     * Constructor for long messages that are given as characters, so they can be printed without creating a String
+     * of them. All attributes are read only, do not change the array after passing it!
+     * 
+     * @param message   char[]  content of the object, message to be passed to be further processed
+     * @param t         Type    SUCCESS, FAILURE, EXIT as "successfulness" of the operation
+     */
+    public Result(char[] message, Type t) {
+        this(null, message, t);
+    }
+    
+    /**
+     * Constructor for a message that is given either as a String or as characters.
+     * 
+     * @param message   String  content of the object or <i>null</i> if given as characters
+     * @param chars     char[]  content of the object or <i>null</i> if given as a String
+     * @param t         Type    SUCCESS, FAILURE, EXIT as "successfulness" of the operation
+     */
+    private Result(String message, char[] chars, Type t) {
         this.message = message;
+        this.chars = chars;
         this.type = t;
+        this.form = Form.TEXT;
+        this.prefix = null;
+        this.first = 0;
+        this.second = 0;
+    }
+    
+    /**
+     * Constructor for successful Results whose message consists of numbers.
+     * 
+     * @param message   String  the message if it is already known, otherwise <i>null</i>
+     * @param form      Form    of the message
+     * @param prefix    String  text in front of the first number, only for Form.PREFIXED
+     * @param first     first number of the message
+     * @param second    second number of the message, only for Form.POSITION
+     */
+    private Result(String message, Form form, String prefix, int first, int second) {
+        this.message = message;
+        this.chars = null;
+        this.type = Type.SUCCESS;
+        this.form = form;
+        this.prefix = prefix;
+        this.first = first;
+        this.second = second;
     }
     
     /**
-     * Getter for the message of the object
+     * Gives a successful Result with the number as its message, the Results of small numbers are shared.
+     * 
+     * @param value number of the message
+     * @return Result with the message "value"
+     */
+    public static Result number(int value) {
+        if (value >= 0 && value < CACHED_NUMBERS) {
+            return NUMBERS[value];
+        }
+        return new Result(null, Form.NUMBER, null, value, 0);
+    }
+    
+    /**
+     * Gives a successful Result of a position on the board, the row and column can be read with getFirst() and
+     * getSecond() without parsing the message.
+     * 
+     * @param i row of the position
+     * @param j column of the position
+     * @return Result with the message "i,j"
+     */
+    public static Result position(int i, int j) {
+        return new Result(null, Form.POSITION, null, i, j);
+    }
+    
+    /**
+     * Gives a successful Result of a text that is followed by a number.
+     * 
+     * @param prefix    String  text in front of the number
+     * @param value     number after the text
+     * @return Result with the message "prefix,value"
+     */
+    public static Result prefixed(String prefix, int value) {
+        return new Result(null, Form.PREFIXED, prefix, value, 0);
+    }
+    
+    /**
+     * Getter for the message of the object, puts it together if the Result was created from numbers.
      * 
      * @return this.message as String
      */
     public String getMessage() {
-        return this.message;
+        if (this.message != null) {
+            return this.message;
+        }
+        switch (this.form) {
+            case NUMBER:
+                return String.valueOf(this.first);
+            case POSITION:
+                return this.first + "," + this.second;
+            case PREFIXED:
+                return this.prefix + "," + this.first;
+            default:
+                return new String(this.chars);
+        }
+    }
+    
+    /**
+     * Getter for the first number of a Result that was created by number(), position() or prefixed().
+     * 
+     * @return the first number of the message
+     */
+    public int getFirst() {
+        return this.first;
+    }
+    
+    /**
+     * Getter for the second number of a Result that was created by position().
+     * 
+     * @return the second number of the message
+     */
+    public int getSecond() {
+        return this.second;
+    }
+    
+    /**
+     * Getter for the characters of the message, if it was given as characters.
+     * Do not change the array.
+     * 
+     * @return the characters of the message or <i>null</i> if the message was given as a String
+     */
+    public char[] getMessageChars() {
+        return this.chars;
     }
     
     /**
@@ -57,6 +209,25 @@ public class Result {
         /** The operation caused an error that is returned in the message. */
         FAILURE,
         /** The operation closes the program and the message shall not be used! */
-        EXIT
+        EXIT,
+        /** The operation replaces the game by a new one and the message is printed like a successful one. */
+        RESET
+    }
+    
+    /**
+     * Nested enum for the ways the message of a Result is given or put together.
+     * 
+     * @author Julian Dieskau
+     * @version 1.0
+     */
+    private enum Form {
+        /** The message was given as a String or as characters */
+        TEXT,
+        /** The message is a single number */
+        NUMBER,
+        /** The message is a row and a column, separated by a comma */
+        POSITION,
+        /** The message is a text and a number, separated by a comma */
+        PREFIXED
     }
 }
@@ -1,25 +1,31 @@
 package edu.kit.informatik.view;
 
-import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
-import java.util.Optional;
+import java.util.Map;
 
-import edu.kit.informatik.Application;
+import edu.kit.informatik.Session;
 import edu.kit.informatik.core.Errors;
 import edu.kit.informatik.core.Input;
 import edu.kit.informatik.core.Output;
+import edu.kit.informatik.model.FlightEvents.CommandEvent;
 import edu.kit.informatik.model.Game;
 import edu.kit.informatik.presenter.BuyFireEngine;
 import edu.kit.informatik.presenter.Command;
+import edu.kit.informatik.presenter.CommandStats;
+import edu.kit.informatik.presenter.CommandStats.Recorder;
 import edu.kit.informatik.presenter.Extinguish;
 import edu.kit.informatik.presenter.FireToRoll;
+import edu.kit.informatik.presenter.Load;
 import edu.kit.informatik.presenter.Move;
 import edu.kit.informatik.presenter.Quit;
 import edu.kit.informatik.presenter.Refill;
 import edu.kit.informatik.presenter.Reset;
+import edu.kit.informatik.presenter.Save;
 import edu.kit.informatik.presenter.ShowBoard;
 import edu.kit.informatik.presenter.ShowField;
 import edu.kit.informatik.presenter.ShowPlayer;
+import edu.kit.informatik.presenter.Stats;
 import edu.kit.informatik.presenter.Turn;
 import edu.kit.informatik.presenter.output.ErrorMessages;
 import edu.kit.informatik.presenter.output.Result;
@@ -28,45 +34,99 @@ import edu.kit.informatik.presenter.output.Result.Type;
 /**
  * Class that represents the Input-Output-System and checks if an Input matches a command,
  * executes the command and prints the message or error-message to the Terminal.
+ * The time and Result of every command is recorded in the CommandStats of the program, from the line being read
+ * to its output being printed, and the execution of the command is a CommandEvent for the Java Flight Recorder.
  * 
  * @author Julian Dieskau
  * @version 1.0
  */
 public class IO {
-
+    
+    /** Name the lines that are no registered command are recorded with */
+    private static final String UNKNOWN = "unknown";
+    
     private Game game;
-    private final List<Command> commands;
+    /** Session the commands are read in, is reset or closed by the commands */
+    private final Session session;
+    /** All registered commands by their name */
+    private final Map<String, Command> commands;
+    /** Recorders of the registered commands by their name */
+    private final Map<String, Recorder> recorders;
+    /** Recorder of the lines that are no registered command */
+    private final Recorder unknown;
+    
+    /**
+     * Constructor of the InputOutput class, registers the commands by their name and records them in the
+     * CommandStats of the program.
+     * 
+     * @param game      Game object, that processes the input and has all the logic for the game itself
+     * @param session   Session the commands are read in
+     */
+    public IO(Game game, Session session) {
+        this(game, session, CommandStats.process());
+    }
     
     /**
-     * Constructor of the InputOutput class, registers the commands
+     * Constructor of the InputOutput class, registers the commands by their name and records them in the given
+     * statistics.
      * 
-     * @param game  Game object, that processes the input and has all the logic for the game itself
+     * @param game      Game object, that processes the input and has all the logic for the game itself
+     * @param session   Session the commands are read in
+     * @param stats     CommandStats to record the commands in
      */
-    public IO(Game game) {
+    public IO(Game game, Session session, CommandStats stats) {
         this.game = game;
+        this.session = session;
         // Register all commands here:
-        this.commands = new ArrayList<>();
-        this.commands.addAll(List.of(new Quit(), new Reset(), new Turn(), new BuyFireEngine(), new Extinguish(), 
-                new ShowBoard(), new ShowField(), new ShowPlayer(), new Move(), new Refill(), new FireToRoll()));
+        this.commands = new HashMap<>();
+        this.recorders = new HashMap<>();
+        for (Command c : List.of(new Quit(), new Reset(), new Turn(), new BuyFireEngine(), new Extinguish(), 
+                new ShowBoard(), new ShowField(), new ShowPlayer(), new Move(), new Refill(), new FireToRoll(),
+                new Stats(stats), new Save(), new Load(session::load))) {
+            this.commands.put(c.getName(), c);
+            this.recorders.put(c.getName(), stats.recorder(c.getName()));
+        }
+        this.unknown = stats.recorder(UNKNOWN);
     }
-
+    
     /**
-     * Private class that returns an Optional of the command.
-     * Searches through the registered command-objects for one with the given name and returns it.
-     * Optional is empty if no command was found.
+     * Returns the registered command with the given name.
      * 
      * @param name of the command to search for
-     * @return Optional of the command
+     * @return the Command or <i>null</i> if no command was found
      */
-    private Optional<Command> getCommand(String name) {
-        for (Command c : this.commands) {
-            if (name.equals(c.getName())) {
-                return Optional.of(c);
-            }
+    private Command getCommand(String name) {
+        return this.commands.get(name);
+    }
+    
+    /**
+     * Splits the line at every single space, the same way read.split(" ", -1) would, including empty Strings
+     * between two spaces and at the end. Does not use a regular expression and creates the array in its
+     * final size, a line without spaces (all commands without arguments) is not copied at all.
+     * 
+     * @param line  String  line of input
+     * @return the parts of the line
+     */
+    private static String[] tokenize(String line) {
+        int space = line.indexOf(' ');
+        if (space < 0) {
+            return new String[] {line};
+        }
+        int amount = 2;
+        for (int k = line.indexOf(' ', space + 1); k >= 0; k = line.indexOf(' ', k + 1)) {
+            amount++;
         }
-        return Optional.empty();
+        String[] tokens = new String[amount];
+        int start = 0;
+        for (int t = 0; t < amount - 1; t++) {
+            tokens[t] = line.substring(start, space);
+            start = space + 1;
+            space = line.indexOf(' ', start);
+        }
+        tokens[amount - 1] = line.substring(start);
+        return tokens;
     }
-
+    
     /**
      * Needs to be called in a loop, calls the command from the Input
      * and calls the game-object to process that data.
@@ -79,19 +139,43 @@ public class IO {
     public void next(Input in, Output out, Errors err, Game g) {
         this.game = g;
         String read = in.read();
-        String[] input = read.split(" ", -1);
+        if (read == null) {
+            // end of the input has been reached, there are no more commands
+            this.session.exit();
+            return;
+        }
+        long start = System.nanoTime();
+        String[] input = tokenize(read);
         
-        Result r = getCommand(input[0])
-                .map(cmd -> cmd.execute(this.game, input))
-                .orElse(new Result(ErrorMessages.COMMAND_NOT_FOUND, Type.FAILURE));
+        Command cmd = getCommand(input[0]);
+        Result r;
+        if (cmd != null) {
+            CommandEvent event = new CommandEvent(cmd.getName());
+            event.start(this.game.getBoard());
+            r = cmd.execute(this.game, input);
+            event.setResult(r.getType().name());
+            event.finish(this.game.getBoard());
+        } else {
+            r = new Result(ErrorMessages.COMMAND_NOT_FOUND, Type.FAILURE);
+        }
         
-        // check the type of the command and print the message or exit
-        if (r.getType() == Type.SUCCESS) {
+        // check the type of the command and print the message, reset or exit
+        if (r.getType() == Type.RESET) {
+            this.session.reset();
             out.print(r.getMessage());
+        } else if (r.getType() == Type.SUCCESS) {
+            char[] chars = r.getMessageChars();
+            if (chars != null) {
+                out.print(chars);
+            } else {
+                out.print(r.getMessage());
+            }
         } else if (r.getType() == Type.FAILURE) {
             err.print(r.getMessage());
         } else if (r.getType() == Type.EXIT) {
-            Application.exit();
+            this.session.exit();
         }
+        Recorder recorder = cmd != null ? this.recorders.get(cmd.getName()) : this.unknown;
+        recorder.record(r.getType(), System.nanoTime() - start);
     }
 }
\ No newline at end of file
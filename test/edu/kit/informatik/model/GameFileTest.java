@@ -0,0 +1,234 @@
+package edu.kit.informatik.model;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Random;
+import java.util.function.UnaryOperator;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import edu.kit.informatik.model.objects.BoardObject.Kind;
+
+/**
+ * Feeds saved games with a corrupt board to GameFile.decode() and checks that every one of them is rejected before
+ * a game is created from it, so a broken file cannot crash a later command.
+ * 
+ * @author Julian Dieskau
+ * @version 1.0
+ */
+public class GameFileTest {
+    /** Size of the magic number and the version in front of the board */
+    private static final int HEADER_SIZE = Integer.BYTES + Short.BYTES;
+    /** Value of a packed square with a bit that is not used */
+    private static final byte INVALID_CELL = 0x10;
+    /** Value of a packed square that is lightly burning and not a forest */
+    private static final byte SPARKING_NO_FOREST = 2;
+    /** Commands that are played before the game is saved, few enough that fire engines are left */
+    private static final int COMMANDS = 20;
+    
+    /** Directory of the saved games */
+    @TempDir
+    Path directory;
+    
+    /**
+     * Decodes the saved game that is not corrupt and checks that it is the same game.
+     */
+    @Test
+    public void decodesValidGame() {
+        Game game = playedGame();
+        byte[] bytes = TestGames.bytes(game);
+        assertArrayEquals(bytes, TestGames.bytes(GameFile.decode(ByteBuffer.wrap(bytes))));
+    }
+    
+    /**
+     * Corrupts the board of the saved game in every way that Board.checkSnapshot() rejects.
+     */
+    @Test
+    public void rejectsCorruptBoards() {
+        Game game = playedGame();
+        BoardSnapshot valid = game.getBoard().copySquares();
+        int firstBurning = BitSet.valueOf(valid.getFire()).nextSetBit(0);
+        int engine = find(valid, Kind.FIRE_ENGINE, 0);
+        int station = find(valid, Kind.FIRE_STATION, 0);
+        assertRejected(game, valid, s -> with(s, s.getCells(), s.getFire(), new int[0], null, null, null));
+        assertRejected(game, valid, s -> with(s, s.getCells(), fire(s, s.getCells().length, true), s.getStateCount(),
+                null, null, null));
+        assertRejected(game, valid, s -> with(s, s.getCells(), fire(s, firstBurning, false), s.getStateCount(),
+                null, null, null));
+        assertRejected(game, valid, s -> {
+            int[] count = s.getStateCount().clone();
+            count[Square.State.DRY.ordinal()]++;
+            return with(s, s.getCells(), s.getFire(), count, null, null, null);
+        });
+        assertRejected(game, valid, s -> with(s, cell(s, firstBurning, INVALID_CELL), s.getFire(), s.getStateCount(),
+                null, null, null));
+        int stationSquare = valid.getObjectSquare(station);
+        assertRejected(game, valid, s -> with(s, cell(s, stationSquare, SPARKING_NO_FOREST),
+                fire(s, stationSquare, true), s.getStateCount(), null, null, null));
+        assertRejected(game, valid, s -> with(s, s.getCells(), s.getFire(), s.getStateCount(), null, null,
+                new int[] {engine, stationSquare}));
+        assertRejected(game, valid, s -> with(s, s.getCells(), s.getFire(), s.getStateCount(), null,
+                new int[] {engine, find(s, Kind.FIRE_ENGINE, engine + 1)}, null));
+        assertRejected(game, valid, s -> with(s, s.getCells(), s.getFire(), s.getStateCount(), "X9",
+                new int[] {engine, engine}, null));
+    }
+    
+    /**
+     * Saves a corrupt game to a file and checks that loading it fails with an IOException, which the load command
+     * reports as an error.
+     * 
+     * @throws IOException if the file cannot be written
+     */
+    @Test
+    public void loadRejectsCorruptFile() throws IOException {
+        Game game = playedGame();
+        BoardSnapshot valid = game.getBoard().copySquares();
+        Path path = this.directory.resolve("corrupt.save");
+        Files.write(path, encode(game, with(valid, valid.getCells(), valid.getFire(), new int[0], null, null, null)));
+        assertThrows(IOException.class, () -> GameFile.load(path));
+    }
+    
+    /**
+     * Loads a large file that is not a saved game and checks that it is rejected by its header.
+     * 
+     * @throws IOException if the file cannot be written
+     */
+    @Test
+    public void loadRejectsOtherFile() throws IOException {
+        Path path = this.directory.resolve("other.save");
+        byte[] other = new byte[1 << 20];
+        Arrays.fill(other, (byte) 'x');
+        Files.write(path, other);
+        IOException e = assertThrows(IOException.class, () -> GameFile.load(path));
+        assertTrue(e.getMessage().endsWith("is not a saved game of version 1"), e.getMessage());
+    }
+    
+    /**
+     * Creates a game that has been played for a while, with burning squares and fire engines left.
+     * 
+     * @return the Game
+     */
+    private static Game playedGame() {
+        Random random = new Random(1);
+        Game game = TestGames.start(random, 9, 11);
+        for (int k = 0; k < COMMANDS && !game.isOver(); k++) {
+            TestGames.run(game, TestGames.randomCommand(game, random));
+        }
+        return game;
+    }
+    
+    /**
+     * Corrupts the board of the game and checks that decoding the saved game throws an IllegalArgumentException.
+     * 
+     * @param game      Game                            that is saved
+     * @param valid     BoardSnapshot                   of the board of the game
+     * @param corrupt   UnaryOperator<BoardSnapshot>    that corrupts the snapshot
+     */
+    private static void assertRejected(Game game, BoardSnapshot valid, UnaryOperator<BoardSnapshot> corrupt) {
+        ByteBuffer in = ByteBuffer.wrap(encode(game, corrupt.apply(valid)));
+        assertThrows(IllegalArgumentException.class, () -> GameFile.decode(in));
+    }
+    
+    /**
+     * Saves the game like GameFile.encode() does, but with the given board instead of its own.
+     * 
+     * @param game      Game            whose header, round and players are saved
+     * @param squares   BoardSnapshot   that is saved as the board
+     * @return the bytes of the saved game
+     */
+    private static byte[] encode(Game game, BoardSnapshot squares) {
+        byte[] valid = TestGames.bytes(game);
+        int rest = valid.length - HEADER_SIZE - game.getBoard().copySquares().encodedSize();
+        ByteBuffer out = ByteBuffer.allocate(HEADER_SIZE + squares.encodedSize() + rest);
+        out.put(valid, 0, HEADER_SIZE);
+        squares.encode(out);
+        out.put(valid, valid.length - rest, rest);
+        return out.array();
+    }
+    
+    /**
+     * Copies the snapshot with other arrays of the squares and changed objects.
+     * 
+     * @param s             BoardSnapshot   to copy
+     * @param cells         byte[]          packed squares
+     * @param fire          long[]          words of the burning squares
+     * @param stateCount    int[]           counted forest squares
+     * @param name          String          that the changed objects are named or <i>null</i> to keep their names
+     * @param objects       int[]           numbers of two objects, the second is named like the first, or <i>null</i>
+     * @param squares       int[]           number of an object and the square it is moved to, or <i>null</i>
+     * @return the copy
+     */
+    private static BoardSnapshot with(BoardSnapshot s, byte[] cells, long[] fire, int[] stateCount, String name,
+            int[] objects, int[] squares) {
+        int amount = s.countObjects();
+        Kind[] kinds = new Kind[amount];
+        String[] names = new String[amount];
+        int[] indices = new int[amount];
+        for (int k = 0; k < amount; k++) {
+            kinds[k] = s.getObjectKind(k);
+            names[k] = s.getObjectName(k);
+            indices[k] = s.getObjectSquare(k);
+        }
+        if (objects != null) {
+            names[objects[1]] = name == null ? names[objects[0]] : name;
+        }
+        if (squares != null) {
+            indices[squares[0]] = squares[1];
+        }
+        return new BoardSnapshot(s.getRows(), s.getColumns(), cells, fire, stateCount, kinds, names, indices);
+    }
+    
+    /**
+     * Copies the packed squares with one of them changed.
+     * 
+     * @param s     BoardSnapshot   with the squares
+     * @param index int             of the square
+     * @param cell  byte            new value of the square
+     * @return the changed copy
+     */
+    private static byte[] cell(BoardSnapshot s, int index, byte cell) {
+        byte[] cells = s.getCells().clone();
+        cells[index] = cell;
+        return cells;
+    }
+    
+    /**
+     * Copies the burning squares with one of them changed.
+     * 
+     * @param s         BoardSnapshot   with the burning squares
+     * @param index     int             of the square
+     * @param burning   boolean         if the square is burning in the copy
+     * @return words of the changed copy
+     */
+    private static long[] fire(BoardSnapshot s, int index, boolean burning) {
+        BitSet fire = BitSet.valueOf(s.getFire());
+        fire.set(index, burning);
+        return fire.toLongArray();
+    }
+    
+    /**
+     * Finds the first object of the kind from the given number on.
+     * 
+     * @param s     BoardSnapshot   with the objects
+     * @param kind  Kind            of the object
+     * @param from  int             number of the first object to look at
+     * @return number of the object
+     */
+    private static int find(BoardSnapshot s, Kind kind, int from) {
+        for (int k = from; k < s.countObjects(); k++) {
+            if (s.getObjectKind(k) == kind) {
+                return k;
+            }
+        }
+        throw new IllegalStateException("no " + kind + " on the board " + Arrays.toString(s.getCells()));
+    }
+}
@@ -0,0 +1,184 @@
+package edu.kit.informatik.model;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Random;
+import java.util.function.Consumer;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import edu.kit.informatik.model.GameLog.Replay;
+import edu.kit.informatik.presenter.ShowBoard;
+import edu.kit.informatik.presenter.input.Parser;
+
+/**
+ * Plays random commands with marks, undos, resets and loaded games on logged games, replays the logs and checks that
+ * the replayed game is exactly the live one: the same board as show-board prints it and the same bytes as it is
+ * saved with.
+ * 
+ * @author Julian Dieskau
+ * @version 1.0
+ */
+public class GameLogTest {
+    /** Random games that are logged */
+    private static final int GAMES = 40;
+    /** Commands of every game */
+    private static final int COMMANDS = 3000;
+    /** One in this many commands resets the game */
+    private static final int RESET = 400;
+    /** One in this many commands marks the game and undoes the next ones */
+    private static final int MARK = 50;
+    /** One in this many commands saves the game or loads the saved one */
+    private static final int LOAD = 200;
+    /** Rows and columns of the board of a loaded game that is larger than the buffers of the log */
+    private static final int LARGE = 1101;
+    /** Most commands between a mark and its undo */
+    private static final int MAX_UNDONE = 12;
+    
+    /** Directory of the log files */
+    @TempDir
+    Path directory;
+    
+    /**
+     * Replays the logs of the random games and compares the replayed games with the live ones.
+     * 
+     * @throws IOException if a log cannot be written or read
+     */
+    @Test
+    public void replayMatchesLiveGame() throws IOException {
+        for (int seed = 0; seed < GAMES; seed++) {
+            Random random = new Random(seed);
+            String argument = TestGames.argument(random, 5 + 2 * random.nextInt(6), 5 + 2 * random.nextInt(6));
+            BoardSnapshot board = Parser.parseArgs(new String[] {argument}).getSnapshot();
+            Path path = this.directory.resolve("game-" + seed + ".log");
+            Path saved = this.directory.resolve("game-" + seed + ".sav");
+            boolean isSaved = false;
+            Game game;
+            long records;
+            try (GameLog log = GameLog.create(path, board)) {
+                game = start(board, log);
+                for (int k = 0; k < COMMANDS; k++) {
+                    if (game.isOver() || random.nextInt(RESET) == 0) {
+                        log.reset();
+                        game = start(board, log);
+                    } else if (random.nextInt(LOAD) == 0) {
+                        if (isSaved && random.nextBoolean()) {
+                            game = load(saved, log);
+                        } else {
+                            GameFile.save(game, saved);
+                            isSaved = true;
+                        }
+                    } else if (random.nextInt(MARK) == 0) {
+                        int mark = game.mark();
+                        for (int u = random.nextInt(MAX_UNDONE); u >= 0; u--) {
+                            TestGames.run(game, TestGames.randomCommand(game, random));
+                        }
+                        game.undo(mark);
+                    } else {
+                        TestGames.run(game, TestGames.randomCommand(game, random));
+                    }
+                }
+                records = log.getRecords();
+            }
+            Replay replay = GameLog.replay(path);
+            assertEquals(records, replay.getRecords(), "records of game " + seed);
+            assertEquals(showBoard(game), showBoard(replay.getGame()), "board of game " + seed);
+            assertArrayEquals(TestGames.bytes(game), TestGames.bytes(replay.getGame()), "game " + seed);
+        }
+    }
+    
+    /**
+     * Writes logs with a record whose values cannot have been logged by a game, dice outside of 1 to 6 and
+     * positions outside of the board, and checks that the replay reports them as invalid records.
+     * 
+     * @throws IOException if a log cannot be written
+     */
+    @Test
+    public void replayRejectsInvalidRecords() throws IOException {
+        BoardSnapshot board = Parser.parseArgs(new String[] {TestGames.argument(new Random(0), 5, 5)}).getSnapshot();
+        List<Consumer<GameLog>> records = List.of(log -> log.roll(0), log -> log.roll(9), log -> log.buy(99, 99),
+                log -> log.buy(1, -1), log -> log.extinguish("A0", 5, 1), log -> log.move("A0", 1, 5),
+                log -> log.move("A9", 1, 2));
+        for (int k = 0; k < records.size(); k++) {
+            Path path = this.directory.resolve("invalid-" + k + ".log");
+            try (GameLog log = GameLog.create(path, board)) {
+                log.turn();
+                records.get(k).accept(log);
+            }
+            IOException e = assertThrows(IOException.class, () -> GameLog.replay(path), "record " + k);
+            assertTrue(e.getMessage().endsWith("has an invalid record after 1 records"), e.getMessage());
+        }
+    }
+    
+    /**
+     * Loads a game that is larger than the buffers of the log into a log of a small board and checks that the
+     * replay goes on with it.
+     * 
+     * @throws IOException if a log or the saved game cannot be written or read
+     */
+    @Test
+    public void replayLoadsLargeGame() throws IOException {
+        Random random = new Random(LARGE);
+        Path saved = this.directory.resolve("large.sav");
+        GameFile.save(TestGames.start(random, LARGE, LARGE), saved);
+        BoardSnapshot board = Parser.parseArgs(new String[] {TestGames.argument(random, 5, 5)}).getSnapshot();
+        Path path = this.directory.resolve("large.log");
+        Game game;
+        try (GameLog log = GameLog.create(path, board)) {
+            game = start(board, log);
+            TestGames.run(game, "turn");
+            game = load(saved, log);
+            for (int k = 0; k < COMMANDS && !game.isOver(); k++) {
+                TestGames.run(game, TestGames.randomCommand(game, random));
+            }
+        }
+        Game replayed = GameLog.replay(path).getGame();
+        assertArrayEquals(TestGames.bytes(game), TestGames.bytes(replayed));
+    }
+    
+    /**
+     * Loads the saved game and goes on with it like Session.load() does.
+     * 
+     * @param saved Path    of the saved game
+     * @param log   GameLog to append to
+     * @return the loaded Game
+     * @throws IOException if the saved game cannot be read
+     */
+    private static Game load(Path saved, GameLog log) throws IOException {
+        Game game = GameFile.load(saved);
+        log.load(game);
+        game.setLog(log);
+        return game;
+    }
+    
+    /**
+     * Creates a new logged game that starts with the board.
+     * 
+     * @param board BoardSnapshot   to start with
+     * @param log   GameLog         to append to
+     * @return the new Game
+     */
+    private static Game start(BoardSnapshot board, GameLog log) {
+        Game game = new Game();
+        game.init(new Board(board));
+        game.setLog(log);
+        return game;
+    }
+    
+    /**
+     * Prints the board of the game like the show-board command.
+     * 
+     * @param game  Game    to print
+     * @return the output of show-board
+     */
+    private static String showBoard(Game game) {
+        return new ShowBoard().execute(game, new String[] {"show-board"}).getMessage();
+    }
+}
@@ -0,0 +1,57 @@
+package edu.kit.informatik.model;
+
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+import edu.kit.informatik.model.GameLogic.Spread;
+
+/**
+ * Spreads the fire on random boards with the squares and with the bit masks and checks after every step into a
+ * direction that both boards are the same, including which squares have burned in the round and which fire engines
+ * have burned. The widths are around one and two longs of the bit masks.
+ * 
+ * @author Julian Dieskau
+ * @version 1.0
+ */
+public class SpreadBitBoardTest {
+    /** Widths of the boards */
+    private static final int[] COLUMNS = {63, 64, 65, 127, 129};
+    /** Random boards of every width */
+    private static final int BOARDS = 20;
+    /** Most rows of a board */
+    private static final int MAX_ROWS = 120;
+    /** Rounds that are played on every board */
+    private static final int ROUNDS = 8;
+    
+    /**
+     * Compares both spreads on the random boards, rolling random values of the dice.
+     */
+    @Test
+    public void bitBoardIsSquares() {
+        GameLogic squares = new GameLogic(Spread.SQUARES);
+        GameLogic bitBoard = new GameLogic(Spread.BITBOARD);
+        for (int columns : COLUMNS) {
+            for (int k = 0; k < BOARDS; k++) {
+                Random random = new Random(columns * 1000L + k);
+                int rows = 1 + random.nextInt(MAX_ROWS);
+                TestBoards.compareSpreads(random, rows, columns, ROUNDS, r -> directions(1 + r.nextInt(6)),
+                        squares::burnToDirection, bitBoard::burnToDirection, rows + "x" + columns);
+            }
+        }
+    }
+    
+    /**
+     * Directions the fire spreads into for the value of the dice, in the order of Game.rollFire().
+     * 
+     * @param dice  int value of the dice
+     * @return the Directions
+     */
+    private static Direction[] directions(int dice) {
+        if (dice == 1) {
+            return new Direction[] {Direction.N, Direction.E, Direction.S, Direction.W};
+        }
+        Direction d = Direction.ofDice(dice);
+        return d == null ? new Direction[0] : new Direction[] {d};
+    }
+}
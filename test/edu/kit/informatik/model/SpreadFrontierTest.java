@@ -0,0 +1,101 @@
+package edu.kit.informatik.model;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+import edu.kit.informatik.model.GameLogic.Spread;
+import edu.kit.informatik.model.Square.State;
+
+/**
+ * Spreads the fire on random boards with GameLogic.burnToDirection(), which only visits the burning squares, and
+ * with the original scan over every square of the board, and checks after every step into a direction that both
+ * boards are the same.
+ * 
+ * @author Julian Dieskau
+ * @version 1.0
+ */
+public class SpreadFrontierTest {
+    /** Random boards that are compared */
+    private static final int BOARDS = 200;
+    /** Most rows and columns of a board */
+    private static final int MAX_SIZE = 60;
+    /** Rounds that are played on every board */
+    private static final int ROUNDS = 8;
+    
+    /**
+     * Compares both spreads into every direction on the random boards.
+     */
+    @Test
+    public void frontierIsFullScan() {
+        GameLogic squares = new GameLogic(Spread.SQUARES);
+        for (int k = 0; k < BOARDS; k++) {
+            Random random = new Random(k);
+            int rows = 1 + random.nextInt(MAX_SIZE);
+            int columns = 1 + random.nextInt(MAX_SIZE);
+            TestBoards.compareSpreads(random, rows, columns, ROUNDS, SpreadFrontierTest::someDirections,
+                    SpreadFrontierTest::scanBoard, squares::burnToDirection, rows + "x" + columns);
+        }
+    }
+    
+    /**
+     * Chooses every direction with a chance of one half, in the order of Direction.values().
+     * 
+     * @param random    Random  to choose with
+     * @return the chosen Directions
+     */
+    private static Direction[] someDirections(Random random) {
+        List<Direction> chosen = new ArrayList<>();
+        for (Direction d : Direction.values()) {
+            if (random.nextBoolean()) {
+                chosen.add(d);
+            }
+        }
+        return chosen.toArray(new Direction[0]);
+    }
+    
+    /**
+     * GameLogic.burnToDirection() as it was before it only visited the burning squares: every square of the board
+     * is visited row by row.
+     * 
+     * @param d     Direction: N, E, S, W are possible
+     * @param board Board instance of the game to burn on
+     */
+    private static void scanBoard(Direction d, Board board) {
+        // gets the int array of d with the 2 values and reads them accordingly
+        int[] arr = d.intArray();
+        int addRow = arr[0];
+        int addColumn = arr[1];
+        // iterate over all Squares of the board
+        for (int i = 0; i < board.getRows(); i++) {
+            // get the row position and continue to next iteration if out of bounds
+            int r = i + addRow;
+            for (int j = 0; j < board.getColumns(); j++) {
+                // check if the square is allowed to set itself or sth. else on fire
+                Square auto = board.getSquareAtPosition(i, j);
+                if (auto.burnedThisRound()) {
+                    continue;
+                }
+                // set the state to heavily burning when it is lightly burning
+                if (auto.getState() == State.SPARKING) {
+                    auto.burnSquare();
+                    continue;
+                }
+                // get the column position and continue to next iteration if out of bounds
+                int c = j + addColumn;
+                if (c < 0 || c >= board.getColumns()) {
+                    continue;
+                } else if (r < 0 || r >= board.getRows()) {
+                    continue;
+                }
+                // it should proceed normally
+                if (auto.getState() == State.BURNING) {
+                    Square sq = board.getSquareAtPosition(r, c);
+                    sq.burnSquare();
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,54 @@
+package edu.kit.informatik.model;
+
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+
+import org.junit.jupiter.api.Test;
+
+import edu.kit.informatik.model.GameLogic.Spread;
+
+/**
+ * Spreads the fire in parallel with pools of 1 up to the number of available processors, but at least 4, and checks
+ * after every step that the board is the same as with the sequential spreading of the bit masks. The heights of the
+ * boards are primes, so they are never a multiple of the height of the bands and the last band is always shorter.
+ * Every step spreads into one direction, so the borders between the bands are crossed to the north and to the south.
+ * 
+ * @author Julian Dieskau
+ * @version 1.0
+ */
+public class SpreadParallelTest {
+    /** Heights of the boards, all of them primes above the least height of a band */
+    private static final int[] ROWS = {17, 37, 71, 131, 257};
+    /** Widths of the boards, around the number of squares in one long */
+    private static final int[] COLUMNS = {5, 63, 64, 65, 129};
+    /** Rounds that are played on every board */
+    private static final int ROUNDS = 8;
+    /** Least number of threads that are tested even if there are less processors */
+    private static final int MIN_THREADS = 4;
+    
+    /**
+     * Compares the parallel spreading with every pool size against the sequential one, stepping into every direction
+     * in every round.
+     */
+    @Test
+    public void parallelSpreadIsSequentialSpread() {
+        int threads = Math.max(MIN_THREADS, Runtime.getRuntime().availableProcessors());
+        GameLogic sequential = new GameLogic(Spread.BITBOARD);
+        for (int parallelism = 1; parallelism <= threads; parallelism++) {
+            ForkJoinPool pool = new ForkJoinPool(parallelism);
+            try {
+                GameLogic parallel = new GameLogic(Spread.PARALLEL, pool);
+                for (int rows : ROWS) {
+                    for (int columns : COLUMNS) {
+                        Random random = new Random(rows * 1000L + columns * 10L + parallelism);
+                        TestBoards.compareSpreads(random, rows, columns, ROUNDS, r -> Direction.values(),
+                                sequential::burnToDirection, parallel::burnToDirection,
+                                rows + "x" + columns + " with " + parallelism + " threads");
+                    }
+                }
+            } finally {
+                pool.shutdown();
+            }
+        }
+    }
+}
@@ -0,0 +1,180 @@
+package edu.kit.informatik.model;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.TreeSet;
+import java.util.function.BiConsumer;
+import java.util.function.Function;
+
+import edu.kit.informatik.model.Square.State;
+import edu.kit.informatik.model.objects.BoardObject;
+import edu.kit.informatik.model.objects.FireEngine;
+import edu.kit.informatik.model.objects.FireStation;
+import edu.kit.informatik.model.objects.Lake;
+
+/**
+ * Random boards for the tests of the spreading of the fire, the checks that two boards are the same and the
+ * comparison of two spreads on them.
+ * 
+ * @author Julian Dieskau
+ * @version 1.0
+ */
+final class TestBoards {
+    /** Letters of the players that own the random fire engines */
+    private static final String OWNERS = "ABCD";
+    
+    /**
+     * Utility class, therefore not wanted.
+     */
+    private TestBoards() {
+        throw new IllegalAccessError("Do not try to instantiate this class!");
+    }
+    
+    /**
+     * Creates a random board: a tenth of the squares are lakes or fire stations, the others are forest squares of
+     * which a random share is burning. Every sixth forest square holds a fire engine, half of those a second one.
+     * 
+     * @param random    Random  to create the board with
+     * @param rows      int     number of rows
+     * @param columns   int     number of columns
+     * @return the new Board
+     */
+    static Board random(Random random, int rows, int columns) {
+        Board board = new Board(rows, columns);
+        double fire = random.nextDouble();
+        int engines = 0;
+        for (int i = 0; i < rows; i++) {
+            for (int j = 0; j < columns; j++) {
+                if (random.nextInt(10) == 0) {
+                    BoardObject o = random.nextBoolean() ? new Lake() : new FireStation(owner(random));
+                    board.initSquare(i, j, State.DRY, false, o);
+                    continue;
+                }
+                State s = random.nextDouble() < fire ? (random.nextBoolean() ? State.SPARKING : State.BURNING)
+                        : (random.nextBoolean() ? State.WET : State.DRY);
+                FireEngine e = random.nextInt(6) == 0 ? new FireEngine(owner(random) + engines++) : null;
+                board.initSquare(i, j, s, true, e);
+                if (e != null && random.nextBoolean()) {
+                    FireEngine second = new FireEngine(owner(random) + engines++);
+                    second.changePosition(i, j);
+                    board.getSquareAtPosition(i, j).placeObject(second);
+                }
+            }
+        }
+        return board;
+    }
+    
+    /**
+     * Letter of a random player.
+     * 
+     * @param random    Random  to choose the player with
+     * @return the letter of the player
+     */
+    private static String owner(Random random) {
+        return String.valueOf(OWNERS.charAt(random.nextInt(OWNERS.length())));
+    }
+    
+    /**
+     * Spreads the fire on two copies of a random board, one with each spread, and checks after every step into a
+     * direction that both boards are the same. After every round both boards are reset and the same random squares
+     * are extinguished on them.
+     * 
+     * @param random        Random                          to create the board and choose the directions with
+     * @param rows          int                             number of rows
+     * @param columns       int                             number of columns
+     * @param rounds        int                             number of rounds
+     * @param directions    Function<Random, Direction[]>   that chooses the directions of a round
+     * @param expected      BiConsumer<Direction, Board>    spread of the reference
+     * @param actual        BiConsumer<Direction, Board>    spread to check
+     * @param label         String                          of the board that is reported if they differ
+     */
+    static void compareSpreads(Random random, int rows, int columns, int rounds,
+            Function<Random, Direction[]> directions, BiConsumer<Direction, Board> expected,
+            BiConsumer<Direction, Board> actual, String label) {
+        Board start = random(random, rows, columns);
+        Board expectedBoard = new Board(start);
+        Board actualBoard = new Board(start);
+        for (int round = 0; round < rounds; round++) {
+            for (Direction d : directions.apply(random)) {
+                expected.accept(d, expectedBoard);
+                actual.accept(d, actualBoard);
+                assertSame(expectedBoard, actualBoard, label + ", round " + round + " " + d);
+            }
+            expectedBoard.roundReset();
+            actualBoard.roundReset();
+            extinguish(random, columns, expectedBoard, actualBoard);
+        }
+    }
+    
+    /**
+     * Extinguishes the same random squares on all boards, so the bit masks are also changed by other paths than
+     * the spreading.
+     * 
+     * @param random    Random  to choose the squares with
+     * @param amount    int     of squares to extinguish
+     * @param boards    Board[] of the same size
+     */
+    static void extinguish(Random random, int amount, Board... boards) {
+        for (int k = 0; k < amount; k++) {
+            int i = random.nextInt(boards[0].getRows());
+            int j = random.nextInt(boards[0].getColumns());
+            for (Board b : boards) {
+                b.getSquareAtPosition(i, j).extinguish();
+            }
+        }
+    }
+    
+    /**
+     * Checks that the squares of both boards are in the same State, have burned in the same round and hold the same
+     * objects, and that the same fire engines are left on them.
+     * 
+     * @param expected  Board   of the reference
+     * @param actual    Board   to check
+     * @param step      String  that is reported if they differ
+     */
+    static void assertSame(Board expected, Board actual, String step) {
+        int columns = expected.getColumns();
+        for (int index = 0; index < expected.getRows() * columns; index++) {
+            String at = step + " at " + index / columns + "," + index % columns;
+            assertEquals(expected.getState(index), actual.getState(index), at);
+            assertEquals(expected.burnedThisRound(index), actual.burnedThisRound(index), at);
+            assertEquals(names(expected.getObjects(index)), names(actual.getObjects(index)), at);
+        }
+        assertEquals(expected.countBurnedThisRound(), actual.countBurnedThisRound(), step);
+        for (State s : State.values()) {
+            assertEquals(expected.countForestSquares(s), actual.countForestSquares(s), step + " " + s);
+        }
+        assertEquals(engines(expected), engines(actual), step);
+    }
+    
+    /**
+     * Names of the objects in their order.
+     * 
+     * @param objects   List of the BoardObjects
+     * @return the names
+     */
+    private static List<String> names(List<BoardObject> objects) {
+        List<String> names = new ArrayList<>();
+        for (BoardObject o : objects) {
+            names.add(o.getName());
+        }
+        return names;
+    }
+    
+    /**
+     * Sorted names of the fire engines that are on the board.
+     * 
+     * @param board Board   with the fire engines
+     * @return the names
+     */
+    private static TreeSet<String> engines(Board board) {
+        TreeSet<String> names = new TreeSet<>();
+        for (FireEngine e : board.getFireEngines()) {
+            names.add(e.getName());
+        }
+        return names;
+    }
+}
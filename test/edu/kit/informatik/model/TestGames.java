@@ -0,0 +1,164 @@
+package edu.kit.informatik.model;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+
+import edu.kit.informatik.model.objects.FireEngine;
+import edu.kit.informatik.presenter.BuyFireEngine;
+import edu.kit.informatik.presenter.Command;
+import edu.kit.informatik.presenter.Extinguish;
+import edu.kit.informatik.presenter.FireToRoll;
+import edu.kit.informatik.presenter.Move;
+import edu.kit.informatik.presenter.Refill;
+import edu.kit.informatik.presenter.ShowPlayer;
+import edu.kit.informatik.presenter.Turn;
+import edu.kit.informatik.presenter.input.Arguments;
+import edu.kit.informatik.presenter.input.Arguments.ArgumentType;
+import edu.kit.informatik.presenter.input.Parser;
+import edu.kit.informatik.presenter.output.Result;
+
+/**
+ * Random games for the tests: random boards that the Parser accepts and random commands that are run on them
+ * through the Commands of the presenter, most of them close to the fire engines of the current player so they
+ * are often accepted.
+ * 
+ * @author Julian Dieskau
+ * @version 1.0
+ */
+final class TestGames {
+    /** Commands that change the game or read the players */
+    private static final List<Command> COMMANDS = List.of(new Turn(), new BuyFireEngine(), new Extinguish(),
+            new Move(), new Refill(), new FireToRoll(), new ShowPlayer());
+    
+    /**
+     * Utility class, therefore not wanted.
+     */
+    private TestGames() {
+        throw new IllegalAccessError("Do not try to instantiate this class!");
+    }
+    
+    /**
+     * Creates the command line argument of a random board with the fire stations, the first fire engines and the
+     * lakes where the Parser expects them.
+     * 
+     * @param random    Random  to create the board with
+     * @param rows      int     number of rows, odd and at least 5
+     * @param columns   int     number of columns, odd and at least 5
+     * @return the comma-separated board argument
+     */
+    static String argument(Random random, int rows, int columns) {
+        String[] cells = new String[rows * columns];
+        String forest = "dddwww++*";
+        for (int k = 0; k < cells.length; k++) {
+            cells[k] = String.valueOf(forest.charAt(random.nextInt(forest.length())));
+        }
+        int lastRow = rows - 1;
+        int lastColumn = columns - 1;
+        cells[0] = "A";
+        cells[lastColumn] = "D";
+        cells[lastRow * columns + lastColumn] = "B";
+        cells[lastRow * columns] = "C";
+        cells[columns + 1] = "A0";
+        cells[columns + lastColumn - 1] = "D0";
+        cells[(lastRow - 1) * columns + 1] = "C0";
+        cells[(lastRow - 1) * columns + lastColumn - 1] = "B0";
+        cells[lastColumn / 2] = "L";
+        cells[lastRow * columns + lastColumn / 2] = "L";
+        cells[lastRow / 2 * columns] = "L";
+        cells[lastRow / 2 * columns + lastColumn] = "L";
+        // a board needs a lightly and a heavily burning square
+        cells[lastRow / 2 * columns + lastColumn / 2 - 1] = "+";
+        cells[lastRow / 2 * columns + lastColumn / 2 + 1] = "*";
+        return rows + "," + columns + "," + String.join(",", cells);
+    }
+    
+    /**
+     * Creates a new game on a random board.
+     * 
+     * @param random    Random  to create the board with
+     * @param rows      int     number of rows, odd and at least 5
+     * @param columns   int     number of columns, odd and at least 5
+     * @return the new Game
+     */
+    static Game start(Random random, int rows, int columns) {
+        Arguments parsed = Parser.parseArgs(new String[] {argument(random, rows, columns)});
+        if (parsed.getType() != ArgumentType.CORRECT) {
+            throw new IllegalArgumentException(parsed.getMessage());
+        }
+        Game game = new Game();
+        game.init(new Board(parsed.getSnapshot()));
+        return game;
+    }
+    
+    /**
+     * Chooses a random command for the current state of the game: fire-to-roll if the game waits for the dice,
+     * otherwise mostly actions of the fire engines of the current player close to their positions.
+     * 
+     * @param game      Game    to choose the command for
+     * @param random    Random  to choose the command with
+     * @return the command line
+     */
+    static String randomCommand(Game game, Random random) {
+        Board board = game.getBoard();
+        char player = game.currentPlayer().getID().toChar();
+        List<FireEngine> mine = new ArrayList<>();
+        for (FireEngine e : board.getFireEngines()) {
+            if (e.getName().charAt(0) == player) {
+                mine.add(e);
+            }
+        }
+        mine.sort(Comparator.comparing(FireEngine::getName));
+        FireEngine engine = mine.isEmpty() ? null : mine.get(random.nextInt(mine.size()));
+        String id = engine == null ? player + "0" : engine.getName();
+        int row = engine == null ? 0 : engine.getRowPosition();
+        int column = engine == null ? 0 : engine.getColumnPosition();
+        int k = random.nextInt(100);
+        if (game.getPlayerController().waitForDice() && k < 70 || k >= 85 && k < 95) {
+            return "fire-to-roll " + (1 + random.nextInt(6));
+        } else if (k < 25) {
+            return "extinguish " + id + "," + (row + random.nextInt(3) - 1) + "," + (column + random.nextInt(3) - 1);
+        } else if (k < 40) {
+            return "move " + id + "," + Math.floorMod(row + random.nextInt(5) - 2, board.getRows()) + ","
+                    + Math.floorMod(column + random.nextInt(5) - 2, board.getColumns());
+        } else if (k < 50) {
+            return "refill " + id;
+        } else if (k < 62) {
+            int stationRow = random.nextBoolean() ? 1 : board.getRows() - 2;
+            int stationColumn = random.nextBoolean() ? 1 : board.getColumns() - 2;
+            return "buy-fire-engine " + (stationRow + random.nextInt(3) - 1) + ","
+                    + (stationColumn + random.nextInt(3) - 1);
+        } else if (k < 85) {
+            return "turn";
+        }
+        return "show-player";
+    }
+    
+    /**
+     * Runs the command line on the game like IO.next() does, without printing the result.
+     * 
+     * @param game  Game    to run the command on
+     * @param line  String  of the command
+     * @return the Result of the command
+     */
+    static Result run(Game game, String line) {
+        String[] input = line.split(" ");
+        for (Command c : COMMANDS) {
+            if (c.getName().equals(input[0])) {
+                return c.execute(game, input);
+            }
+        }
+        throw new IllegalArgumentException("unknown command " + line);
+    }
+    
+    /**
+     * Encodes the whole game like it is saved to a file, so two games can be compared by their bytes.
+     * 
+     * @param game  Game    to encode
+     * @return the bytes of the game
+     */
+    static byte[] bytes(Game game) {
+        return GameFile.encode(game).array();
+    }
+}
@@ -0,0 +1,80 @@
+package edu.kit.informatik.model;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+import edu.kit.informatik.presenter.output.Result;
+
+/**
+ * Plays random commands on random games, marks the game and undoes the commands after the mark, and checks that the
+ * board, the players and the flags of the game are exactly the same as in a copy taken at the mark. The games are
+ * compared by the bytes they are saved to a file with.
+ * 
+ * @author Julian Dieskau
+ * @version 1.0
+ */
+public class UndoTest {
+    /** Random games that are played */
+    private static final int GAMES = 40;
+    /** Marks that are undone in every game */
+    private static final int MARKS = 40;
+    /** Most commands between a mark and its undo */
+    private static final int MAX_COMMANDS = 12;
+    /** Most reputation points the players get before a mark, so they can buy fire engines */
+    private static final int MAX_SALARY = 8;
+    
+    /**
+     * Undoes marks on the random games, with a second mark between the first one and its undo.
+     */
+    @Test
+    public void undoRestoresCopyAtMark() {
+        for (int seed = 0; seed < GAMES; seed++) {
+            Random random = new Random(seed);
+            Game game = TestGames.start(random, 5 + 2 * random.nextInt(6), 5 + 2 * random.nextInt(6));
+            for (int m = 0; m < MARKS && !game.isOver(); m++) {
+                // changes that are not made by commands are not recorded, so only before the mark
+                for (Player p : game.getPlayerController().getCycle()) {
+                    p.obtainSalary(random.nextInt(MAX_SALARY));
+                }
+                Game copy = new Game(game);
+                byte[] atMark = TestGames.bytes(copy);
+                assertArrayEquals(atMark, TestGames.bytes(game), "copy of game " + seed);
+                int outer = game.mark();
+                play(game, random);
+                byte[] atInner = TestGames.bytes(game);
+                int inner = game.mark();
+                play(game, random);
+                game.undo(inner);
+                assertArrayEquals(atInner, TestGames.bytes(game), "inner undo " + m + " of game " + seed);
+                play(game, random);
+                game.undo(outer);
+                assertArrayEquals(atMark, TestGames.bytes(game), "undo " + m + " of game " + seed);
+                // the game goes on like the copy after the undo
+                for (int k = random.nextInt(MAX_COMMANDS); k >= 0 && !game.isOver(); k--) {
+                    String line = TestGames.randomCommand(game, random);
+                    Result expected = TestGames.run(copy, line);
+                    Result actual = TestGames.run(game, line);
+                    assertEquals(expected.getType(), actual.getType(), line);
+                    assertEquals(expected.getMessage(), actual.getMessage(), line);
+                }
+                assertArrayEquals(TestGames.bytes(copy), TestGames.bytes(game), "after undo " + m + " of game " + seed);
+            }
+        }
+    }
+    
+    /**
+     * Plays a random number of random commands on the game.
+     * 
+     * @param game      Game    to play
+     * @param random    Random  to choose the commands with
+     */
+    private static void play(Game game, Random random) {
+        for (int k = random.nextInt(MAX_COMMANDS); k >= 0; k--) {
+            TestGames.run(game, TestGames.randomCommand(game, random));
+        }
+    }
+}
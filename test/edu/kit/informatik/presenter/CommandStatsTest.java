@@ -0,0 +1,76 @@
+package edu.kit.informatik.presenter;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import edu.kit.informatik.presenter.CommandStats.Recorder;
+import edu.kit.informatik.presenter.output.Result.Type;
+
+/**
+ * Records calls from several threads into the same Recorders at once and checks that none of them is lost in the
+ * report.
+ * 
+ * @author Julian Dieskau
+ * @version 1.0
+ */
+public class CommandStatsTest {
+    /** Threads that record at once */
+    private static final int THREADS = 8;
+    /** Calls every thread records for every command */
+    private static final int CALLS = 100000;
+    
+    /**
+     * Records successful and failed calls of two commands from all threads and checks the counts of the report.
+     * 
+     * @throws InterruptedException if the test is interrupted while waiting for the threads
+     */
+    @Test
+    public void concurrentCallsAreCounted() throws InterruptedException {
+        CommandStats stats = new CommandStats();
+        Recorder turn = stats.recorder("turn");
+        Recorder move = stats.recorder("move");
+        List<Thread> threads = new ArrayList<>();
+        for (int t = 0; t < THREADS; t++) {
+            Thread thread = new Thread(() -> {
+                for (int k = 0; k < CALLS; k++) {
+                    turn.record(Type.SUCCESS, k);
+                    move.record(k % 2 == 0 ? Type.SUCCESS : Type.FAILURE, 1000);
+                }
+            });
+            threads.add(thread);
+            thread.start();
+        }
+        for (Thread thread : threads) {
+            thread.join();
+        }
+        String[] lines = stats.report().split("\n");
+        assertEquals(4, lines.length);
+        long calls = (long) THREADS * CALLS;
+        assertCounts(lines[1], "move", calls, calls / 2, calls / 2);
+        assertCounts(lines[2], "turn", calls, calls, 0);
+        assertCounts(lines[3], "total", 2 * calls, calls + calls / 2, calls / 2);
+        // every call of move took exactly one microsecond
+        assertEquals("1.0", lines[1].split(",")[7]);
+    }
+    
+    /**
+     * Checks the name and the counts at the start of a line of the report.
+     * 
+     * @param line      String  of the report
+     * @param name      String  of the command
+     * @param calls     long    expected number of calls
+     * @param success   long    expected number of successful calls
+     * @param failure   long    expected number of failed calls
+     */
+    private static void assertCounts(String line, String name, long calls, long success, long failure) {
+        String[] values = line.split(",");
+        assertEquals(name, values[0]);
+        assertEquals(calls, Long.parseLong(values[1]), line);
+        assertEquals(success, Long.parseLong(values[2]), line);
+        assertEquals(failure, Long.parseLong(values[3]), line);
+    }
+}
@@ -0,0 +1,44 @@
+package edu.kit.informatik.presenter.input;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.util.List;
+import java.util.Random;
+import java.util.regex.Pattern;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * Checks that the tests of the Patterns that look at the characters accept exactly the Strings that match their
+ * regular expressions.
+ * 
+ * @author Julian Dieskau
+ * @version 1.0
+ */
+public class PatternsTest {
+    /** Random Strings that are tested */
+    private static final int STRINGS = 100000;
+    /** Longest random String */
+    private static final int MAX_LENGTH = 6;
+    /** Characters of the random Strings, the allowed ones, their neighbours and the ones of paths */
+    private static final String CHARACTERS = "aAzZ09_-./\\\\ @[`{~:ä";
+    
+    /**
+     * Tests names of saved games that are chosen by hand and random ones against IS_FILE_NAME.
+     */
+    @Test
+    public void isFileNameMatchesPattern() {
+        Pattern pattern = Pattern.compile(Patterns.IS_FILE_NAME);
+        for (String s : List.of("", ".", "..", "../x", "a", "game-1.sav", ".hidden", "-x", "_", "a b", "a/b")) {
+            assertEquals(pattern.matcher(s).matches(), Patterns.isFileName(s), s);
+        }
+        Random random = new Random(0);
+        for (int k = 0; k < STRINGS; k++) {
+            StringBuilder s = new StringBuilder();
+            for (int i = random.nextInt(MAX_LENGTH + 1); i > 0; i--) {
+                s.append(CHARACTERS.charAt(random.nextInt(CHARACTERS.length())));
+            }
+            assertEquals(pattern.matcher(s).matches(), Patterns.isFileName(s.toString()), s.toString());
+        }
+    }
+}